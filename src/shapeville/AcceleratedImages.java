@@ -0,0 +1,94 @@
+package shapeville;
+
+import javax.swing.ImageIcon;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BufferedImage;
+
+/**
+ * Converts decoded images into formats the screen can blit without per-pixel
+ * conversion, and wraps them in icons.
+ *
+ * The pipeline is chosen once with -Dshapeville.imagePipeline so the paths can
+ * be compared on the same machine:
+ * <ul>
+ * <li>{@code raw} - hand out images exactly as the decoder produced them</li>
+ * <li>{@code compatible} (default) - copy into a
+ * {@link GraphicsConfiguration#createCompatibleImage} image</li>
+ * <li>{@code volatile} - as compatible, plus a {@link VolatileImageIcon} that
+ * paints from a VolatileImage where the platform accelerates them</li>
+ * </ul>
+ */
+public final class AcceleratedImages {
+
+    public enum Pipeline {
+        RAW, COMPATIBLE, VOLATILE
+    }
+
+    private static final Pipeline PIPELINE = parsePipeline(System.getProperty("shapeville.imagePipeline"));
+
+    private AcceleratedImages() {
+    }
+
+    public static Pipeline getPipeline() {
+        return PIPELINE;
+    }
+
+    /**
+     * Wraps an image in an icon using the configured pipeline.
+     */
+    public static ImageIcon createIcon(BufferedImage image) {
+        switch (PIPELINE) {
+            case VOLATILE:
+                return new VolatileImageIcon(toCompatible(image));
+            case COMPATIBLE:
+                return new ImageIcon(toCompatible(image));
+            default:
+                return new ImageIcon(image);
+        }
+    }
+
+    /**
+     * Copies an image into the default screen's native pixel layout, keeping its
+     * transparency. Returns the image unchanged when there is no screen or it is
+     * already compatible.
+     */
+    public static BufferedImage toCompatible(BufferedImage image) {
+        GraphicsConfiguration gc = getDefaultConfiguration();
+        if (gc == null) {
+            return image;
+        }
+        int transparency = image.getTransparency();
+        if (image.getColorModel().equals(gc.getColorModel(transparency))) {
+            return image;
+        }
+        BufferedImage compatible = gc.createCompatibleImage(image.getWidth(), image.getHeight(), transparency);
+        Graphics2D g2d = compatible.createGraphics();
+        try {
+            g2d.drawImage(image, 0, 0, null);
+        } finally {
+            g2d.dispose();
+        }
+        return compatible;
+    }
+
+    static GraphicsConfiguration getDefaultConfiguration() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return null;
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+    }
+
+    private static Pipeline parsePipeline(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return Pipeline.COMPATIBLE;
+        }
+        try {
+            return Pipeline.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown image pipeline '" + value + "', using compatible images.");
+            return Pipeline.COMPATIBLE;
+        }
+    }
+}
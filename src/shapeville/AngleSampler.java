@@ -0,0 +1,118 @@
+package shapeville;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Draws random angle values from a range in constant time.
+ *
+ * The values allowed for a given (min, max, multiple, type to avoid) are
+ * worked out once and cached, so drawing one is a single random index instead
+ * of drawing and retrying until the type differs. Samplers are immutable and
+ * shared; the caller supplies the random stream.
+ */
+public final class AngleSampler {
+    private static final Map<Key, AngleSampler> CACHE = new ConcurrentHashMap<>();
+
+    private final int[] values;
+
+    private static final class Key {
+        final int min;
+        final int max;
+        final int multiple;
+        final AngleType typeToAvoid;
+
+        Key(int min, int max, int multiple, AngleType typeToAvoid) {
+            this.min = min;
+            this.max = max;
+            this.multiple = multiple;
+            this.typeToAvoid = typeToAvoid;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return min == other.min && max == other.max && multiple == other.multiple
+                    && typeToAvoid == other.typeToAvoid;
+        }
+
+        @Override
+        public int hashCode() {
+            return ((min * 31 + max) * 31 + multiple) * 31 + (typeToAvoid == null ? -1 : typeToAvoid.ordinal());
+        }
+    }
+
+    private AngleSampler(int[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Gets the sampler for min, min + multiple, ... up to max, leaving out
+     * angles of typeToAvoid (null to allow every type).
+     *
+     * If every angle in the range is of typeToAvoid, the whole range is allowed
+     * rather than leaving nothing to draw from.
+     */
+    public static AngleSampler of(int min, int max, int multiple, AngleType typeToAvoid) {
+        if (multiple <= 0 || max < min) {
+            throw new IllegalArgumentException(
+                    "Invalid angle range: " + min + "-" + max + " in steps of " + multiple);
+        }
+        return CACHE.computeIfAbsent(new Key(min, max, multiple, typeToAvoid), AngleSampler::build);
+    }
+
+    private static AngleSampler build(Key key) {
+        int count = (key.max - key.min) / key.multiple + 1;
+        int[] allowed = new int[count];
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int angle = key.min + i * key.multiple;
+            if (key.typeToAvoid == null || AngleType.fromAngleValue(angle) != key.typeToAvoid) {
+                allowed[kept++] = angle;
+            }
+        }
+        if (kept == 0) { // Nothing but typeToAvoid in range: fall back to all of it
+            for (int i = 0; i < count; i++) {
+                allowed[i] = key.min + i * key.multiple;
+            }
+            kept = count;
+        }
+        int[] values = new int[kept];
+        System.arraycopy(allowed, 0, values, 0, kept);
+        return new AngleSampler(values);
+    }
+
+    /**
+     * @return The number of distinct angles this sampler can produce.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    public int sample(SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Draws up to count different angles in random order, e.g. for a drill or
+     * worksheet. Returns fewer if the range does not hold that many.
+     */
+    public int[] sampleDistinct(SplittableRandom random, int count) {
+        int n = Math.min(Math.max(count, 0), values.length);
+        int[] pool = values.clone();
+        // Partial Fisher-Yates: only the first n slots need shuffling
+        for (int i = 0; i < n; i++) {
+            int j = i + random.nextInt(pool.length - i);
+            int tmp = pool[i];
+            pool[i] = pool[j];
+            pool[j] = tmp;
+        }
+        int[] result = new int[n];
+        System.arraycopy(pool, 0, result, 0, n);
+        return result;
+    }
+}
@@ -0,0 +1,69 @@
+package shapeville;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grades typed numeric answers against their correct {@link ScaledAnswer}:
+ * the text is parsed with {@link NumericParser}, rounded to the graded number
+ * of decimal places and compared with the tolerance policy.
+ *
+ * Graders are immutable and can be shared between panels and threads. The
+ * same code grades one interactive answer or a batch of submissions.
+ */
+public final class AnswerGrader {
+    /** Exact to {@link FixedDecimal#ANSWER_DIGITS} places, rounding extra digits half-even. */
+    public static final AnswerGrader EXACT = new AnswerGrader(FixedDecimal.ANSWER_DIGITS, RoundingPolicy.HALF_EVEN,
+            TolerancePolicy.exact());
+    /** Like {@link #EXACT}, but 0.01 either way is also accepted, for answers rounded slightly differently. */
+    public static final AnswerGrader WITHIN_ONE_UNIT = new AnswerGrader(FixedDecimal.ANSWER_DIGITS,
+            RoundingPolicy.HALF_EVEN, TolerancePolicy.withinUnits(1));
+
+    private final int digits;
+    private final RoundingPolicy rounding;
+    private final TolerancePolicy tolerance;
+
+    /**
+     * @param digits    Decimal places answers are graded to.
+     * @param rounding  How typed answers with more places are rounded.
+     * @param tolerance How far a typed answer may be from the correct one.
+     */
+    public AnswerGrader(int digits, RoundingPolicy rounding, TolerancePolicy tolerance) {
+        FixedDecimal.powerOfTen(digits); // Validates digits
+        this.digits = digits;
+        this.rounding = rounding;
+        this.tolerance = tolerance;
+    }
+
+    public int getDigits() {
+        return digits;
+    }
+
+    public GradeResult grade(CharSequence answerText, ScaledAnswer expected) {
+        if (answerText == null || NumericParser.isBlank(answerText)) {
+            return GradeResult.EMPTY;
+        }
+        long given = NumericParser.parseUnits(answerText, digits, rounding);
+        if (given == NumericParser.INVALID) {
+            return GradeResult.INVALID;
+        }
+        return tolerance.accepts(expected.unitsAt(digits), given) ? GradeResult.CORRECT : GradeResult.INCORRECT;
+    }
+
+    public GradeResult grade(Submission submission) {
+        return grade(submission.getAnswerText(), submission.getExpected());
+    }
+
+    /**
+     * Grades many submissions, e.g. a worksheet or an imported class set.
+     *
+     * @return The results in submission order.
+     */
+    public List<GradeResult> grade(List<Submission> submissions) {
+        List<GradeResult> results = new ArrayList<>(submissions.size());
+        for (Submission submission : submissions) {
+            results.add(grade(submission));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,250 @@
+package shapeville;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.DataLine;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Software mixer that plays all sound effects through one long-lived
+ * SourceDataLine owned by a single audio thread.
+ *
+ * Callers (normally the EDT) only add a voice to a lock-free queue and return.
+ * The audio thread picks new voices up before every chunk, sums up to
+ * {@link #MAX_VOICES} of them into 16-bit PCM and writes the chunk to the line.
+ */
+public class AudioMixer {
+    /** Format all voices are converted to before mixing (matches our WAV files). */
+    public static final AudioFormat MIX_FORMAT = new AudioFormat(48000f, 16, 2, true, false);
+    public static final int MAX_VOICES = 4;
+
+    private static final int CHANNELS = MIX_FORMAT.getChannels();
+    private static final int CHUNK_FRAMES = 480; // 10 ms at 48 kHz
+    private static final int LINE_BUFFER_FRAMES = CHUNK_FRAMES * 4;
+
+    private final ConcurrentLinkedQueue<Voice> submissions = new ConcurrentLinkedQueue<>();
+    private final Voice[] voices = new Voice[MAX_VOICES]; // Audio thread only
+    private final int[] mixBuffer = new int[CHUNK_FRAMES * CHANNELS];
+    private final byte[] outBuffer = new byte[CHUNK_FRAMES * CHANNELS * 2];
+
+    private volatile Thread audioThread; // The line belongs to this thread, which closes it
+    private volatile boolean running;
+
+    // Latency from play() to the voice's first samples entering the line. Only the
+    // audio thread writes these, so volatile is enough for readers.
+    private volatile long lastLatencyNanos = -1;
+    private volatile long maxLatencyNanos;
+    private volatile long totalLatencyNanos;
+    private volatile long voicesStarted;
+    private volatile long voicesDropped;
+
+    /**
+     * One playing sound: interleaved samples and the read position.
+     */
+    private static final class Voice {
+        final short[] samples;
+        final long enqueuedNanos;
+        int position;
+
+        Voice(short[] samples, long enqueuedNanos) {
+            this.samples = samples;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+
+    /**
+     * Opens the output line and starts the audio thread.
+     *
+     * @return false if no line supporting {@link #MIX_FORMAT} is available.
+     */
+    public synchronized boolean start() {
+        if (running) {
+            return true;
+        }
+        SourceDataLine line;
+        try {
+            DataLine.Info info = new DataLine.Info(SourceDataLine.class, MIX_FORMAT);
+            line = (SourceDataLine) AudioSystem.getLine(info);
+            line.open(MIX_FORMAT, LINE_BUFFER_FRAMES * MIX_FORMAT.getFrameSize());
+            line.start();
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            System.out.println("音频混音器不可用: " + e.getMessage());
+            return false;
+        }
+        Thread thread = new Thread(() -> runLoop(line), "audio-mixer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        audioThread = thread;
+        running = true;
+        thread.start();
+        return true;
+    }
+
+    /**
+     * Stops the audio thread, which drains and closes its line on the way out.
+     */
+    public synchronized void stop() {
+        running = false;
+        Thread thread = audioThread;
+        audioThread = null; // A thread still finishing a write exits as soon as it checks
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Queues interleaved {@link #MIX_FORMAT} samples for playback. Never blocks.
+     */
+    public void play(short[] samples) {
+        if (!running || samples == null || samples.length == 0) {
+            return;
+        }
+        submissions.offer(new Voice(samples, System.nanoTime()));
+        LockSupport.unpark(audioThread);
+    }
+
+    private void runLoop(SourceDataLine line) {
+        Thread self = Thread.currentThread();
+        try {
+            while (running && audioThread == self) { // Not a stopped mixer's old thread after a restart
+                acceptSubmissions();
+                if (!hasActiveVoices()) {
+                    // Nothing to play: sleep until play() unparks us
+                    LockSupport.park(this);
+                    continue;
+                }
+                mixChunk();
+                line.write(outBuffer, 0, outBuffer.length); // Blocks, which paces the loop
+            }
+            line.drain();
+        } finally {
+            line.close();
+        }
+    }
+
+    private void acceptSubmissions() {
+        Voice voice;
+        while ((voice = submissions.poll()) != null) {
+            int slot = -1;
+            for (int i = 0; i < MAX_VOICES; i++) {
+                if (voices[i] == null) {
+                    slot = i;
+                    break;
+                }
+            }
+            if (slot < 0) {
+                // Voice limit reached: the oldest voice gives way to the new one
+                slot = oldestVoiceSlot();
+                voicesDropped++;
+            }
+            voices[slot] = voice;
+            recordLatency(voice);
+        }
+    }
+
+    private void recordLatency(Voice voice) {
+        // The voice's first samples go into the very next chunk written
+        long latency = System.nanoTime() - voice.enqueuedNanos;
+        lastLatencyNanos = latency;
+        if (latency > maxLatencyNanos) {
+            maxLatencyNanos = latency;
+        }
+        totalLatencyNanos += latency;
+        voicesStarted++;
+    }
+
+    private int oldestVoiceSlot() {
+        int oldest = 0;
+        for (int i = 1; i < MAX_VOICES; i++) {
+            if (voices[i].enqueuedNanos < voices[oldest].enqueuedNanos) {
+                oldest = i;
+            }
+        }
+        return oldest;
+    }
+
+    private boolean hasActiveVoices() {
+        for (Voice voice : voices) {
+            if (voice != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void mixChunk() {
+        Arrays.fill(mixBuffer, 0);
+        for (int v = 0; v < MAX_VOICES; v++) {
+            Voice voice = voices[v];
+            if (voice == null) {
+                continue;
+            }
+            int count = Math.min(mixBuffer.length, voice.samples.length - voice.position);
+            for (int i = 0; i < count; i++) {
+                mixBuffer[i] += voice.samples[voice.position + i];
+            }
+            voice.position += count;
+            if (voice.position >= voice.samples.length) {
+                voices[v] = null; // Finished
+            }
+        }
+        for (int i = 0, b = 0; i < mixBuffer.length; i++) {
+            int sample = mixBuffer[i];
+            // Clip instead of wrapping around when loud voices overlap
+            if (sample > Short.MAX_VALUE) {
+                sample = Short.MAX_VALUE;
+            } else if (sample < Short.MIN_VALUE) {
+                sample = Short.MIN_VALUE;
+            }
+            outBuffer[b++] = (byte) sample; // Little-endian
+            outBuffer[b++] = (byte) (sample >> 8);
+        }
+    }
+
+    /**
+     * @return Latency of the most recent voice from play() until its first
+     *         samples were handed to the line, in microseconds (-1 if none yet).
+     */
+    public long getLastLatencyMicros() {
+        long last = lastLatencyNanos;
+        return last < 0 ? -1 : last / 1000;
+    }
+
+    public long getMaxLatencyMicros() {
+        return maxLatencyNanos / 1000;
+    }
+
+    public long getAverageLatencyMicros() {
+        long started = voicesStarted;
+        return started == 0 ? 0 : totalLatencyNanos / started / 1000;
+    }
+
+    /**
+     * @return Extra delay before samples handed to the line are heard, set by
+     *         the line's buffer, in microseconds.
+     */
+    public long getLineBufferMicros() {
+        return (long) (LINE_BUFFER_FRAMES * 1_000_000L / MIX_FORMAT.getFrameRate());
+    }
+
+    public long getVoicesStarted() {
+        return voicesStarted;
+    }
+
+    public long getVoicesDropped() {
+        return voicesDropped;
+    }
+}
@@ -0,0 +1,98 @@
+package shapeville;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Immutable data for one compound shape question (Bonus 1).
+ *
+ * The solution text is built from its supplier the first time it is asked for
+ * and kept in a volatile field without locking: two threads that race may both
+ * build it, but they build equal strings, so either result is fine.
+ * {@link SectorAreaData} does the same.
+ */
+public final class CompoundShapeData {
+    private final String id; // Unique identifier (e.g., "CS_Fig10_2")
+    private final String name; // Display name, also shown in the selector
+    private final String imageName; // Filename of the image (e.g., "compound2.png")
+    private final double area; // Correct total area
+    private final ScaledAnswer answer; // The area as graded, to two decimal places
+    private final String unit; // Length unit of the dimensions (e.g., "cm", "m")
+    private final double[] dimensions; // Side lengths read from the figure, in unit
+    private final Supplier<String> solutionBreakdownSource; // Step-by-step decomposition, built when first shown
+    private volatile String solutionBreakdown;
+
+    public CompoundShapeData(String id, String name, String imageName, double area, String unit,
+            double[] dimensions, String solutionBreakdown) {
+        this(id, name, imageName, area, unit, dimensions, () -> solutionBreakdown);
+    }
+
+    /**
+     * @param solutionSource Produces the solution text the first time it is
+     *                       requested (e.g. read from the question bank file).
+     */
+    public CompoundShapeData(String id, String name, String imageName, double area, String unit,
+            double[] dimensions, Supplier<String> solutionSource) {
+        this.id = id;
+        this.name = name;
+        this.imageName = imageName;
+        this.area = area;
+        this.answer = ScaledAnswer.of(area);
+        this.unit = unit;
+        this.dimensions = dimensions == null ? new double[0] : dimensions.clone();
+        this.solutionBreakdownSource = solutionSource;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getImageName() {
+        return imageName;
+    }
+
+    public double getArea() {
+        return area;
+    }
+
+    public ScaledAnswer getAnswer() {
+        return answer;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public int getDimensionCount() {
+        return dimensions.length;
+    }
+
+    public double getDimension(int index) {
+        return dimensions[index];
+    }
+
+    public String getSolutionBreakdown() {
+        String text = solutionBreakdown;
+        if (text == null) {
+            text = solutionBreakdownSource.get(); // Formats the steps or reads them from the bank file
+            solutionBreakdown = text;
+        }
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return "CompoundShapeData{" +
+                "id='" + id + '\'' +
+                ", name='" + name + '\'' +
+                ", imageName='" + imageName + '\'' +
+                ", area=" + area +
+                ", unit='" + unit + '\'' +
+                ", dimensions=" + Arrays.toString(dimensions) +
+                '}';
+    }
+}
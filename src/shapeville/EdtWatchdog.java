@@ -0,0 +1,175 @@
+package shapeville;
+
+import javax.swing.SwingUtilities;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Optional watchdog that finds freezes of the Swing thread. A background
+ * thread posts a heartbeat to the EDT; if it is not answered within the
+ * threshold, the EDT's stack is captured while it is still stuck, and once
+ * the EDT answers the stall is appended to a log with its length and stack.
+ * A histogram of stall lengths is added to the log when the app exits.
+ *
+ * Off unless run with -Dshapeville.edtWatchdog=true. The threshold
+ * (-Dshapeville.edtWatchdog.thresholdMillis, default 200) and log file
+ * (-Dshapeville.edtWatchdog.log, default edt-stalls.log) can be changed.
+ */
+public final class EdtWatchdog {
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    // Upper bounds of the histogram buckets in ms; the last bucket is open
+    private static final long[] BUCKET_BOUNDS = {250, 500, 1000, 2000, 5000, 10000};
+
+    private final long thresholdNanos;
+    private final Path logFile;
+    private final long[] bucketCounts = new long[BUCKET_BOUNDS.length + 1];
+    private long stallCount;
+    private long longestStallMillis;
+
+    private volatile Thread edtThread; // Learnt from the first heartbeat
+    private volatile long answeredSeq;
+    private volatile long answeredAtNanos;
+    private volatile boolean running;
+    private boolean logFailed; // Only report a broken log once
+
+    public EdtWatchdog(long thresholdMillis, Path logFile) {
+        if (thresholdMillis <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive: " + thresholdMillis + " ms");
+        }
+        this.thresholdNanos = thresholdMillis * NANOS_PER_MILLI;
+        this.logFile = logFile;
+    }
+
+    /**
+     * Starts a watchdog configured from system properties if
+     * -Dshapeville.edtWatchdog=true.
+     *
+     * @return The running watchdog, or null if it is turned off.
+     */
+    public static EdtWatchdog startIfEnabled() {
+        if (!Boolean.getBoolean("shapeville.edtWatchdog")) {
+            return null;
+        }
+        long thresholdMillis = Long.getLong("shapeville.edtWatchdog.thresholdMillis", 200);
+        Path logFile = Paths.get(System.getProperty("shapeville.edtWatchdog.log", "edt-stalls.log"));
+        EdtWatchdog watchdog = new EdtWatchdog(thresholdMillis, logFile);
+        watchdog.start();
+        System.out.println("EDT watchdog on: stalls over " + thresholdMillis + " ms go to "
+                + logFile.toAbsolutePath());
+        return watchdog;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::runLoop, "edt-watchdog");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::writeHistogram, "edt-watchdog-summary"));
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    private void runLoop() {
+        long seq = 0;
+        long pollNanos = Math.max(NANOS_PER_MILLI, thresholdNanos / 4);
+        while (running) {
+            long beat = ++seq;
+            long postedAt = System.nanoTime();
+            SwingUtilities.invokeLater(() -> {
+                edtThread = Thread.currentThread();
+                answeredAtNanos = System.nanoTime();
+                answeredSeq = beat; // Written last, so answeredAtNanos is visible once this is
+            });
+            StackTraceElement[] stack = null;
+            while (answeredSeq != beat && running) {
+                LockSupport.parkNanos(pollNanos);
+                Thread edt = edtThread;
+                if (stack == null && answeredSeq != beat && System.nanoTime() - postedAt >= thresholdNanos
+                        && edt != null) {
+                    stack = edt.getStackTrace(); // Taken mid-stall, so it shows what is blocking
+                }
+            }
+            if (answeredSeq == beat) {
+                long stallNanos = answeredAtNanos - postedAt;
+                if (stallNanos >= thresholdNanos) {
+                    recordStall(stallNanos / NANOS_PER_MILLI, stack);
+                }
+            }
+            LockSupport.parkNanos(thresholdNanos / 2); // Time between heartbeats
+        }
+    }
+
+    private void recordStall(long stallMillis, StackTraceElement[] stack) {
+        synchronized (this) {
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS.length && stallMillis > BUCKET_BOUNDS[bucket]) {
+                bucket++;
+            }
+            bucketCounts[bucket]++;
+            stallCount++;
+            longestStallMillis = Math.max(longestStallMillis, stallMillis);
+        }
+        System.err.println("Warning: EDT stalled for " + stallMillis + " ms (details in " + logFile + ")");
+        StringBuilder entry = new StringBuilder(1024);
+        entry.append(LocalDateTime.now()).append(" EDT stalled for ").append(stallMillis).append(" ms\n");
+        if (stack == null) {
+            entry.append("\t(no stack captured; the EDT caught up before the sample)\n");
+        } else {
+            for (StackTraceElement frame : stack) {
+                entry.append("\tat ").append(frame).append('\n');
+            }
+        }
+        append(entry.append('\n'));
+    }
+
+    /**
+     * @return Stall counts by length, one line per bucket.
+     */
+    public synchronized String getHistogram() {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append(stallCount).append(" stalls over ").append(thresholdNanos / NANOS_PER_MILLI)
+                .append(" ms, longest ").append(longestStallMillis).append(" ms\n");
+        long lower = thresholdNanos / NANOS_PER_MILLI;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            if (i < BUCKET_BOUNDS.length && BUCKET_BOUNDS[i] < lower) {
+                continue; // Below the threshold; always empty
+            }
+            if (i < BUCKET_BOUNDS.length) {
+                sb.append(String.format("  %6d - %6d ms: %d%n", lower, BUCKET_BOUNDS[i], bucketCounts[i]));
+                lower = BUCKET_BOUNDS[i];
+            } else {
+                sb.append(String.format("  %6d+ ms:          %d%n", lower, bucketCounts[i]));
+            }
+        }
+        return sb.toString();
+    }
+
+    private void writeHistogram() {
+        append(new StringBuilder(LocalDateTime.now().toString()).append(" Stall histogram\n")
+                .append(getHistogram()).append('\n'));
+    }
+
+    private synchronized void append(CharSequence text) {
+        try (BufferedWriter writer = Files.newBufferedWriter(logFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.append(text);
+        } catch (IOException e) {
+            if (!logFailed) {
+                logFailed = true;
+                System.err.println("Warning: could not write EDT stall log " + logFile + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package shapeville;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Rounds and formats numbers to a fixed number of decimal places, the way
+ * DecimalFormat("#.##") does: half-even rounding of the exact double value, no
+ * grouping, and no trailing zeros or decimal point. For example 12.5 gives
+ * "12.5", 3.0 gives "3" and 0.125 gives "0.12".
+ *
+ * Unlike DecimalFormat this holds no state, so it is safe on any thread, and
+ * {@link #appendTo} writes digits straight into a builder without allocating.
+ */
+public final class FixedDecimal {
+    /** Decimal places used for answers and solution text. */
+    public static final int ANSWER_DIGITS = 2;
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L };
+
+    // From here on the scaled double has no fractional bits left, so huge
+    // values (never seen in questions) go through BigDecimal instead
+    private static final double MAX_SCALED = 0x1p52;
+
+    private FixedDecimal() {
+    }
+
+    /**
+     * @return value rounded to {@link #ANSWER_DIGITS} decimal places.
+     */
+    public static double round(double value) {
+        return round(value, ANSWER_DIGITS);
+    }
+
+    /**
+     * @return The double nearest to value rounded half-even to the given number
+     *         of decimal places; the same as parsing the formatted string.
+     */
+    public static double round(double value, int digits) {
+        checkDigits(digits);
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return value;
+        }
+        double scale = POWERS_OF_TEN[digits];
+        double scaled = value * scale;
+        if (Math.abs(scaled) >= MAX_SCALED) {
+            return exact(value, digits).doubleValue();
+        }
+        return roundScaled(value, scale, scaled) / scale;
+    }
+
+    public static String format(double value) {
+        return format(value, ANSWER_DIGITS);
+    }
+
+    public static String format(double value, int maxDigits) {
+        return appendTo(new StringBuilder(24), value, maxDigits).toString();
+    }
+
+    public static StringBuilder appendTo(StringBuilder sb, double value) {
+        return appendTo(sb, value, ANSWER_DIGITS);
+    }
+
+    /**
+     * Appends value with at most maxDigits decimal places.
+     *
+     * @return sb, for chaining.
+     */
+    public static StringBuilder appendTo(StringBuilder sb, double value, int maxDigits) {
+        checkDigits(maxDigits);
+        if (Double.isNaN(value)) {
+            return sb.append("NaN");
+        }
+        if (Double.isInfinite(value)) {
+            return sb.append(value > 0 ? "∞" : "-∞");
+        }
+        double scale = POWERS_OF_TEN[maxDigits];
+        double scaled = value * scale;
+        if (Math.abs(scaled) >= MAX_SCALED) {
+            return sb.append(exact(value, maxDigits).stripTrailingZeros().toPlainString());
+        }
+        return appendUnits(sb, (long) roundScaled(value, scale, scaled), maxDigits);
+    }
+
+    /**
+     * @return value rounded half-even to the given number of decimal places,
+     *         as a count of units in the last place (12.346 at 2 digits is 1235).
+     * @throws ArithmeticException If the result does not fit in a long.
+     */
+    public static long toUnits(double value, int digits) {
+        checkDigits(digits);
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new ArithmeticException("Not a finite number: " + value);
+        }
+        double scale = POWERS_OF_TEN[digits];
+        double scaled = value * scale;
+        if (Math.abs(scaled) >= MAX_SCALED) {
+            return exact(value, digits).unscaledValue().longValueExact();
+        }
+        return (long) roundScaled(value, scale, scaled);
+    }
+
+    /**
+     * Appends units / 10^digits, dropping trailing zeros.
+     *
+     * @return sb, for chaining.
+     */
+    public static StringBuilder appendUnits(StringBuilder sb, long units, int digits) {
+        checkDigits(digits);
+        if (units == 0) {
+            return sb.append('0'); // No "-0"
+        }
+        long unit = POWERS_OF_TEN[digits];
+        if (units < 0) {
+            sb.append('-');
+        }
+        // Split before taking magnitudes, so Long.MIN_VALUE cannot overflow
+        sb.append(Math.abs(units / unit));
+        long fraction = Math.abs(units % unit);
+        if (fraction == 0) {
+            return sb;
+        }
+        int kept = digits;
+        while (fraction % 10 == 0) { // Drop trailing zeros
+            fraction /= 10;
+            kept--;
+        }
+        sb.append('.');
+        for (long p = POWERS_OF_TEN[kept - 1]; p > fraction; p /= 10) {
+            sb.append('0'); // Leading zeros, e.g. the 0 in 1.05
+        }
+        return sb.append(fraction);
+    }
+
+    static long powerOfTen(int digits) {
+        checkDigits(digits);
+        return POWERS_OF_TEN[digits];
+    }
+
+    /**
+     * Rounds value * scale half-even to an integer, judging ties on the exact
+     * product rather than on its rounded double.
+     */
+    private static double roundScaled(double value, double scale, double scaled) {
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor; // Exact below 2^52
+        if (fraction != 0.5) {
+            // The product's rounding error is under half an ulp, so it cannot
+            // move a value across the halfway point
+            return fraction < 0.5 ? floor : floor + 1;
+        }
+        // Looks like a tie: the product's rounding error decides, e.g. 2.675 is
+        // really 2.67499999... and must round down
+        double error = Math.fma(value, scale, -scaled);
+        if (error > 0) {
+            return floor + 1;
+        }
+        if (error < 0) {
+            return floor;
+        }
+        return Math.rint(scaled); // A true tie: round to even
+    }
+
+    private static BigDecimal exact(double value, int digits) {
+        return new BigDecimal(value).setScale(digits, RoundingMode.HALF_EVEN);
+    }
+
+    private static void checkDigits(int digits) {
+        if (digits < 0 || digits >= POWERS_OF_TEN.length) {
+            throw new IllegalArgumentException("Unsupported number of decimal places: " + digits);
+        }
+    }
+}
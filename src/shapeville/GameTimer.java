@@ -1,101 +1,177 @@
 package shapeville;
 
-import javax.swing.Timer;
 import javax.swing.JLabel;
-import javax.swing.JOptionPane;
-import java.awt.event.ActionListener;
-import java.awt.event.ActionEvent;
 
+/**
+ * Per-question countdown shown in a label. Ticks come from the shared
+ * {@link TimingWheel}, so any number of timers costs one thread.
+ *
+ * Time is measured against a System.nanoTime() deadline rather than counted
+ * in ticks, so a late tick (e.g. while the EDT is busy) only delays the label,
+ * never the countdown itself. Pausing keeps the remaining time to the
+ * nanosecond.
+ *
+ * If the learner stops using the keyboard and mouse for a while (see
+ * {@link NudgePolicy}), each tick may call the nudge handler, which should
+ * show a non-modal prompt and return at once.
+ */
 public class GameTimer {
-    private Timer swingTimer;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private TimingWheel.Timeout pendingTick; // Next label update; null when not running
+    private boolean running;
     private int durationSeconds; // Original duration for reset
-    private int timeLeftSeconds;
+    private long deadlineNanos; // While running
+    private long remainingNanos; // While stopped or paused
+    private long lastNudgeNanos; // When the handler last ran this countdown
+    private boolean nudged; // Whether lastNudgeNanos is set
     private JLabel timerLabel;
     private Runnable onTimeUpCallback; // Action to perform when time is up
+    private Runnable nudgeHandler; // Shows the check-in prompt; null for none
+    private NudgePolicy nudgePolicy = NudgePolicy.DISABLED;
 
     public GameTimer(int durationSeconds, JLabel timerLabel, Runnable onTimeUpCallback) {
         this.durationSeconds = durationSeconds;
-        this.timeLeftSeconds = durationSeconds;
+        this.remainingNanos = durationSeconds * NANOS_PER_SECOND;
         this.timerLabel = timerLabel;
         this.onTimeUpCallback = onTimeUpCallback;
 
-        this.swingTimer = new Timer(1000, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                if (timeLeftSeconds > 0) {
-                    timeLeftSeconds--;
-                    updateLabel();
-                    // 添加每超过90秒弹窗的逻辑
-                    if ((durationSeconds - timeLeftSeconds) % 90 == 0) {
-                        // 使用showOptionDialog显示带有yes和no按钮的对话框
-                        int option = JOptionPane.showOptionDialog(null,
-                                "Hi, are you still working on this problem?",
-                                "Help Needed",
-                                JOptionPane.YES_NO_OPTION,
-                                JOptionPane.QUESTION_MESSAGE,
-                                null,
-                                new Object[]{"Yes", "No"},
-                                "Yes");
-                        // 根据用户选择的按钮进行相应处理
-                        if (option == JOptionPane.YES_OPTION) {
-                            // 用户点击了Yes按钮
-                            JOptionPane.showMessageDialog(null, "Good job,I'm sure you'll be able to work it out soon!");
-                        } else if (option == JOptionPane.NO_OPTION) {
-                            // 用户点击了No按钮
-                            JOptionPane.showMessageDialog(null, "It doesn't matter. Let's keep working hard to solve this problem!");
-                        }
-                    }
-                } else {
-                    stop(); // Stop the timer itself
-                    if (onTimeUpCallback != null) {
-                        onTimeUpCallback.run(); // Execute the callback
-                    }
-                }
-            }
-        });
         updateLabel(); // Initialize label text
     }
 
+    private void tick() {
+        pendingTick = null;
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining <= 0) {
+            remainingNanos = 0;
+            updateLabel();
+            if (onTimeUpCallback != null) {
+                onTimeUpCallback.run(); // Execute the callback while still running; it normally stops the timer
+            }
+            stop();
+            return;
+        }
+        updateLabel();
+        scheduleTick(remaining);
+        maybeNudge();
+    }
+
+    private void maybeNudge() {
+        if (nudgeHandler == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long sinceLastNudge = nudged ? (now - lastNudgeNanos) / NANOS_PER_MILLI : Long.MAX_VALUE;
+        if (nudgePolicy.shouldNudge(IdleDetector.getShared().getIdleMillis(), sinceLastNudge)) {
+            nudged = true;
+            lastNudgeNanos = now;
+            nudgeHandler.run();
+        }
+    }
+
+    /**
+     * Calls handler on a tick when the learner seems stuck, as decided by the
+     * policy. The handler runs on the EDT in the middle of a tick, so it must
+     * not block (no modal dialogs).
+     */
+    public void setNudgeHandler(NudgePolicy policy, Runnable handler) {
+        this.nudgePolicy = policy;
+        this.nudgeHandler = handler;
+    }
+
+    /**
+     * Schedules the next tick for when the displayed second changes.
+     */
+    private void scheduleTick(long remaining) {
+        long untilNextSecond = (remaining - 1) % NANOS_PER_SECOND + 1;
+        pendingTick = TimingWheel.getShared().schedule(this::tick,
+                Math.max(1, (untilNextSecond + NANOS_PER_MILLI - 1) / NANOS_PER_MILLI));
+    }
+
     private void updateLabel() {
         if (timerLabel != null) {
+            int timeLeftSeconds = getTimeLeftSeconds();
             int minutes = timeLeftSeconds / 60;
             int seconds = timeLeftSeconds % 60;
             timerLabel.setText(String.format("Time: %02d:%02d", minutes, seconds));
         }
     }
 
+    /**
+     * Starts the countdown, or resumes it where it was stopped. A countdown
+     * that ran out starts again from the full duration.
+     */
     public void start() {
-        if (!swingTimer.isRunning()) {
-            // If timeLeftSeconds is 0 or less from a previous run, reset it.
-            if (timeLeftSeconds <= 0) {
-                this.timeLeftSeconds = this.durationSeconds;
+        if (!running) {
+            if (remainingNanos <= 0) {
+                remainingNanos = durationSeconds * NANOS_PER_SECOND;
+                nudged = false;
             }
+            deadlineNanos = System.nanoTime() + remainingNanos;
+            running = true;
             updateLabel();
-            swingTimer.start();
+            scheduleTick(remainingNanos);
         }
     }
 
+    /**
+     * Stops the countdown, keeping the remaining time for {@link #start()}.
+     */
     public void stop() {
-        if (swingTimer.isRunning()) {
-            swingTimer.stop();
+        if (running) {
+            running = false;
+            remainingNanos = Math.max(0, deadlineNanos - System.nanoTime());
+        }
+        if (pendingTick != null) {
+            pendingTick.cancel();
+            pendingTick = null;
         }
     }
 
+    /** Same as {@link #stop()}; reads better where the countdown will go on. */
+    public void pause() {
+        stop();
+    }
+
+    /** Same as {@link #start()}. */
+    public void resume() {
+        start();
+    }
+
     /**
      * Resets the timer to its initial duration and stops it.
      */
     public void reset(int newDurationSeconds) {
         stop();
         this.durationSeconds = newDurationSeconds;
-        this.timeLeftSeconds = newDurationSeconds;
+        this.remainingNanos = newDurationSeconds * NANOS_PER_SECOND;
+        this.nudged = false;
         updateLabel();
     }
 
     public boolean isRunning() {
-        return swingTimer.isRunning();
+        return running;
+    }
+
+    public long getRemainingMillis() {
+        long remaining = isRunning() ? deadlineNanos - System.nanoTime() : remainingNanos;
+        return Math.max(0, remaining) / NANOS_PER_MILLI;
     }
 
+    /**
+     * @return Time counted down since the last reset, excluding pauses; the
+     *         learner's response time so far on this question.
+     */
+    public long getElapsedMillis() {
+        return durationSeconds * 1000L - getRemainingMillis();
+    }
+
+    /**
+     * @return Whole seconds left, rounded up as shown on the label.
+     */
     public int getTimeLeftSeconds() {
-        return timeLeftSeconds;
+        long remaining = isRunning() ? deadlineNanos - System.nanoTime() : remainingNanos;
+        return (int) ((Math.max(0, remaining) + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package shapeville;
+
+/**
+ * The outcome of grading one typed answer.
+ */
+public enum GradeResult {
+    CORRECT,
+    INCORRECT,
+    /** Nothing was entered; not counted as an attempt. */
+    EMPTY,
+    /** The text is not a number; not counted as an attempt. */
+    INVALID;
+
+    public boolean isCorrect() {
+        return this == CORRECT;
+    }
+
+    /**
+     * @return true if the answer uses up one of the learner's attempts.
+     */
+    public boolean countsAsAttempt() {
+        return this == CORRECT || this == INCORRECT;
+    }
+}
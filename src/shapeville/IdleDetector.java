@@ -0,0 +1,57 @@
+package shapeville;
+
+import java.awt.AWTEvent;
+import java.awt.Toolkit;
+import java.awt.event.AWTEventListener;
+
+/**
+ * Tracks when the learner last used the keyboard or mouse anywhere in the app,
+ * by listening to every input event the toolkit dispatches. Recording an event
+ * is a single volatile write, so mouse moves cost next to nothing.
+ */
+public final class IdleDetector implements AWTEventListener {
+    private static final long INPUT_EVENTS = AWTEvent.KEY_EVENT_MASK | AWTEvent.MOUSE_EVENT_MASK
+            | AWTEvent.MOUSE_MOTION_EVENT_MASK | AWTEvent.MOUSE_WHEEL_EVENT_MASK;
+
+    private volatile long lastInputNanos = System.nanoTime();
+
+    private static final class Holder {
+        static final IdleDetector SHARED = install();
+    }
+
+    private IdleDetector() {
+    }
+
+    /**
+     * @return The detector for the whole app, installed on first use.
+     */
+    public static IdleDetector getShared() {
+        return Holder.SHARED;
+    }
+
+    private static IdleDetector install() {
+        IdleDetector detector = new IdleDetector();
+        try {
+            Toolkit.getDefaultToolkit().addAWTEventListener(detector, INPUT_EVENTS);
+        } catch (SecurityException e) {
+            System.err.println("Warning: idle detection unavailable: " + e.getMessage());
+        }
+        return detector;
+    }
+
+    @Override
+    public void eventDispatched(AWTEvent event) {
+        lastInputNanos = System.nanoTime();
+    }
+
+    /**
+     * Counts as input, e.g. when a new question appears.
+     */
+    public void markActive() {
+        lastInputNanos = System.nanoTime();
+    }
+
+    public long getIdleMillis() {
+        return (System.nanoTime() - lastInputNanos) / 1_000_000L;
+    }
+}
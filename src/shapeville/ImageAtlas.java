@@ -0,0 +1,134 @@
+package shapeville;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only view of a packed image atlas: one file holding the pre-decoded ARGB
+ * pixels of every image under resources/images, written by
+ * {@link ImageAtlasBuilder}.
+ *
+ * The file is memory-mapped, so opening it costs a single file open and reading
+ * an image is a bulk copy of its pixels with no PNG decoding.
+ *
+ * File layout (big-endian):
+ * <pre>
+ * int   MAGIC ('SVIA')
+ * int   VERSION
+ * int   entry count
+ * per entry: short name length, name bytes (UTF-8), int width, int height,
+ *            long offset of the pixel data from the start of the file
+ * pixel data: width * height ARGB ints per entry, in index order
+ * </pre>
+ */
+public class ImageAtlas {
+    public static final int MAGIC = 0x53564941; // "SVIA"
+    public static final int VERSION = 1;
+    public static final String DEFAULT_FILE_NAME = "images.atlas";
+
+    private final ByteBuffer mapped;
+    private final Map<String, Entry> index;
+    private final List<String> names;
+
+    private static final class Entry {
+        final int width;
+        final int height;
+        final long offset;
+
+        Entry(int width, int height, long offset) {
+            this.width = width;
+            this.height = height;
+            this.offset = offset;
+        }
+    }
+
+    private ImageAtlas(ByteBuffer mapped, Map<String, Entry> index, List<String> names) {
+        this.mapped = mapped;
+        this.index = index;
+        this.names = names;
+    }
+
+    /**
+     * Maps an atlas file and reads its index header.
+     *
+     * @throws IOException if the file cannot be read or is not a valid atlas.
+     */
+    public static ImageAtlas open(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not an image atlas: " + file);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported image atlas version " + version + " in " + file);
+            }
+            int count = buffer.getInt();
+            Map<String, Entry> index = new HashMap<>(count * 2);
+            List<String> names = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                byte[] nameBytes = new byte[buffer.getShort() & 0xFFFF];
+                buffer.get(nameBytes);
+                String name = new String(nameBytes, StandardCharsets.UTF_8);
+                int width = buffer.getInt();
+                int height = buffer.getInt();
+                long offset = buffer.getLong();
+                if (width <= 0 || height <= 0 || offset < 0 || offset + 4L * width * height > buffer.capacity()) {
+                    throw new IOException("Corrupt entry '" + name + "' in image atlas " + file);
+                }
+                index.put(name, new Entry(width, height, offset));
+                names.add(name);
+            }
+            return new ImageAtlas(buffer, index, Collections.unmodifiableList(names));
+        } catch (RuntimeException e) { // BufferUnderflowException etc. on truncated files
+            throw new IOException("Corrupt image atlas " + file + ": " + e, e);
+        }
+    }
+
+    public boolean contains(String name) {
+        return index.containsKey(name);
+    }
+
+    /**
+     * @return The image names in the atlas, in the order they were packed.
+     */
+    public List<String> getNames() {
+        return names;
+    }
+
+    /**
+     * Copies one image out of the atlas. Safe to call from several threads.
+     *
+     * @return A new ARGB image, or null if the atlas has no such entry.
+     */
+    public BufferedImage getImage(String name) {
+        Entry entry = index.get(name);
+        if (entry == null) {
+            return null;
+        }
+        BufferedImage image = new BufferedImage(entry.width, entry.height, BufferedImage.TYPE_INT_ARGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        // duplicate() gives this call its own position, the mapped bytes are shared
+        ByteBuffer view = mapped.duplicate();
+        view.position((int) entry.offset);
+        IntBuffer source = view.slice().asIntBuffer();
+        source.get(pixels, 0, entry.width * entry.height);
+        return image;
+    }
+}
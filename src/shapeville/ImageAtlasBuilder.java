@@ -0,0 +1,103 @@
+package shapeville;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Build step that packs every PNG in an image directory into a single
+ * {@link ImageAtlas} file of pre-decoded ARGB pixels.
+ *
+ * Usage: java shapeville.ImageAtlasBuilder [imageDir] [outputFile]
+ * (defaults: resources/images and resources/images.atlas).
+ * Re-run it whenever an image in resources/images changes.
+ */
+public class ImageAtlasBuilder {
+
+    public static void main(String[] args) throws IOException {
+        Path imageDir = Paths.get(args.length > 0 ? args[0] : "resources/images");
+        Path output = Paths.get(args.length > 1 ? args[1] : "resources/" + ImageAtlas.DEFAULT_FILE_NAME);
+        long startNanos = System.nanoTime();
+        int count = build(imageDir, output);
+        System.out.println("Packed " + count + " images into " + output + " (" + Files.size(output) + " bytes) in "
+                + (System.nanoTime() - startNanos) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Decodes all PNGs in the directory and writes them to the atlas file.
+     *
+     * @return The number of images packed.
+     */
+    public static int build(Path imageDir, Path output) throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(imageDir)) {
+            files = stream.filter(f -> f.getFileName().toString().toLowerCase().endsWith(".png"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        List<String> names = new ArrayList<>();
+        List<BufferedImage> images = new ArrayList<>();
+        for (Path file : files) {
+            BufferedImage img = ImageIO.read(file.toFile());
+            if (img == null) {
+                System.err.println("Skipping unreadable image: " + file);
+                continue;
+            }
+            names.add(file.getFileName().toString());
+            images.add(img);
+        }
+
+        // Header size must be known up front to compute the pixel offsets
+        long headerSize = 12;
+        for (String name : names) {
+            headerSize += 2 + name.getBytes(StandardCharsets.UTF_8).length + 4 + 4 + 8;
+        }
+        long offset = (headerSize + 3) & ~3L; // Keep pixel data int-aligned
+
+        try (OutputStream fileOut = Files.newOutputStream(output);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut, 1 << 16))) {
+            out.writeInt(ImageAtlas.MAGIC);
+            out.writeInt(ImageAtlas.VERSION);
+            out.writeInt(names.size());
+            for (int i = 0; i < names.size(); i++) {
+                byte[] nameBytes = names.get(i).getBytes(StandardCharsets.UTF_8);
+                BufferedImage img = images.get(i);
+                out.writeShort(nameBytes.length);
+                out.write(nameBytes);
+                out.writeInt(img.getWidth());
+                out.writeInt(img.getHeight());
+                out.writeLong(offset);
+                offset += 4L * img.getWidth() * img.getHeight();
+            }
+            for (long pad = ((headerSize + 3) & ~3L) - headerSize; pad > 0; pad--) {
+                out.writeByte(0);
+            }
+            int[] row = null;
+            for (BufferedImage img : images) {
+                int w = img.getWidth();
+                if (row == null || row.length < w) {
+                    row = new int[w];
+                }
+                for (int y = 0; y < img.getHeight(); y++) {
+                    img.getRGB(0, y, w, 1, row, 0, w);
+                    for (int x = 0; x < w; x++) {
+                        out.writeInt(row[x]);
+                    }
+                }
+            }
+        }
+        return names.size();
+    }
+}
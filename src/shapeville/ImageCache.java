@@ -0,0 +1,164 @@
+package shapeville;
+
+import javax.swing.ImageIcon;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread-safe LRU cache for decoded images, bounded by the number of bytes the
+ * decoded pixels occupy rather than by the number of entries.
+ *
+ * Entries pushed out of the LRU can optionally be kept behind
+ * {@link SoftReference}s ("soft spill"), so they are only really dropped when
+ * the GC needs the memory.
+ */
+public class ImageCache {
+    public static final long DEFAULT_MAX_BYTES = 24L * 1024 * 1024; // 24 MB of decoded pixels
+
+    private final long maxBytes;
+    private final boolean softSpill;
+
+    // Access-ordered map: iteration starts at the least recently used entry
+    private final LinkedHashMap<String, ImageIcon> lru = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, SoftReference<ImageIcon>> spill = new HashMap<>();
+    private long currentBytes;
+
+    // Statistics (guarded by this)
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long spillHitCount;
+
+    public ImageCache(long maxBytes, boolean softSpill) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+        this.softSpill = softSpill;
+    }
+
+    /**
+     * Returns the cached icon for the key, or null if it is not cached.
+     * A hit in the soft spill area promotes the icon back into the LRU.
+     */
+    public synchronized ImageIcon get(String key) {
+        ImageIcon icon = lru.get(key);
+        if (icon != null) {
+            hitCount++;
+            return icon;
+        }
+        SoftReference<ImageIcon> ref = spill.remove(key);
+        if (ref != null) {
+            icon = ref.get();
+            if (icon != null) {
+                hitCount++;
+                spillHitCount++;
+                putInternal(key, icon);
+                return icon;
+            }
+        }
+        missCount++;
+        return null;
+    }
+
+    public synchronized void put(String key, ImageIcon icon) {
+        if (key == null || icon == null) {
+            return;
+        }
+        spill.remove(key);
+        putInternal(key, icon);
+    }
+
+    private void putInternal(String key, ImageIcon icon) {
+        long size = estimateBytes(icon);
+        ImageIcon previous = lru.remove(key);
+        if (previous != null) {
+            currentBytes -= estimateBytes(previous);
+        }
+        if (size > maxBytes) {
+            // Too big to ever fit in the budget; only keep it softly reachable
+            if (softSpill) {
+                spill.put(key, new SoftReference<>(icon));
+            }
+            return;
+        }
+        lru.put(key, icon);
+        currentBytes += size;
+        evictIfNeeded();
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, ImageIcon>> it = lru.entrySet().iterator();
+        while (currentBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, ImageIcon> eldest = it.next();
+            it.remove();
+            currentBytes -= estimateBytes(eldest.getValue());
+            evictionCount++;
+            if (softSpill) {
+                spill.put(eldest.getKey(), new SoftReference<>(eldest.getValue()));
+            }
+        }
+        // Drop spill entries whose referents the GC has already cleared
+        if (softSpill) {
+            spill.values().removeIf(ref -> ref.get() == null);
+        }
+    }
+
+    public synchronized void clear() {
+        lru.clear();
+        spill.clear();
+        currentBytes = 0;
+    }
+
+    /**
+     * Estimates the decoded size of an icon, assuming 4 bytes (ARGB) per pixel.
+     */
+    static long estimateBytes(ImageIcon icon) {
+        int w = Math.max(icon.getIconWidth(), 0);
+        int h = Math.max(icon.getIconHeight(), 0);
+        return 4L * w * h;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    public synchronized int size() {
+        return lru.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized long getSpillHitCount() {
+        return spillHitCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ImageCache{" +
+                "entries=" + lru.size() +
+                ", bytes=" + currentBytes + "/" + maxBytes +
+                ", hits=" + hitCount +
+                ", misses=" + missCount +
+                ", evictions=" + evictionCount +
+                ", spillHits=" + spillHitCount +
+                '}';
+    }
+}
@@ -1,16 +1,65 @@
 
 package shapeville;
 
+import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
-import java.util.HashMap;
-import java.util.Map;
-import java.awt.Image; // For scaling
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.awt.image.BufferedImage;
 
 public class ImageLoader {
-    private static Map<String, ImageIcon> imageCache = new HashMap<>();
+    // Bounded by decoded pixel bytes; override with -Dshapeville.imageCache.maxBytes=...
+    private static final ImageCache imageCache = new ImageCache(
+            cacheSizeProperty("shapeville.imageCache.maxBytes", ImageCache.DEFAULT_MAX_BYTES),
+            Boolean.parseBoolean(System.getProperty("shapeville.imageCache.softSpill", "true")));
+    // Scaled variants, keyed by "path@WIDTHxHEIGHT"; kept apart so resizes never
+    // evict the decoded originals
+    private static final ImageCache scaledCache = new ImageCache(
+            cacheSizeProperty("shapeville.scaledCache.maxBytes", 16L * 1024 * 1024), true);
     private static ImageIcon placeholderIcon = null;
 
+    /**
+     * Reads a cache size in bytes, falling back to the default (with a warning)
+     * if it is not positive, so a bad setting never stops images loading.
+     */
+    private static long cacheSizeProperty(String name, long defaultBytes) {
+        long bytes = Long.getLong(name, defaultBytes);
+        if (bytes <= 0) {
+            System.err.println("Warning: -D" + name + "=" + bytes + " is not a positive size; using "
+                    + defaultBytes + " bytes.");
+            return defaultBytes;
+        }
+        return bytes;
+    }
+
+    // Decodes currently in progress, so a panel asking for an image that the
+    // preloader is already decoding waits for it instead of decoding it twice.
+    private static final ConcurrentHashMap<String, CompletableFuture<ImageIcon>> inFlight = new ConcurrentHashMap<>();
+
+    // Background preloading of everything under resources/images
+    private static CompletableFuture<Void> preloadFuture = null;
+    private static volatile long lastPreloadMillis = -1;
+
+    // Pre-decoded pixels of all images, if an atlas has been built (see ImageAtlasBuilder)
+    private static final ImageAtlas atlas = openAtlas();
+
     // Static initializer for placeholder (optional)
     static {
         URL placeholderURL = ImageLoader.class.getResource("/images/placeholder.png");
@@ -26,40 +75,268 @@ public class ImageLoader {
             System.err.println("Error: Image path is null or empty.");
             return placeholderIcon;
         }
-        if (imageCache.containsKey(path)) {
-            return imageCache.get(path);
-        }
-        // Assumes images are in 'resources/images' which is on the classpath
-        // The leading "/" is important for getResource to search from the classpath
-        // root.
-        URL imgURL = ImageLoader.class.getResource("/images/" + path);
-        if (imgURL != null) {
-            ImageIcon icon = new ImageIcon(imgURL);
-            imageCache.put(path, icon);
-            return icon;
+        ImageIcon cached = imageCache.get(path);
+        if (cached != null) {
+            return cached;
+        }
+        ImageIcon icon = decodeAndCache(path);
+        return icon != null ? icon : placeholderIcon; // Return placeholder if image not found
+    }
+
+    /**
+     * Decodes an image from the classpath and stores it in the cache. Safe to call
+     * from any thread; concurrent requests for the same path share one decode.
+     *
+     * @return The decoded icon, or null if the image is missing or unreadable.
+     */
+    private static ImageIcon decodeAndCache(String path) {
+        CompletableFuture<ImageIcon> decode = new CompletableFuture<>();
+        CompletableFuture<ImageIcon> existing = inFlight.putIfAbsent(path, decode);
+        if (existing != null) {
+            return existing.join();
+        }
+        ImageIcon icon = null;
+        try {
+            // Another decode may have finished between the caller's cache miss and
+            // our putIfAbsent; its entry is gone from inFlight but its icon is cached
+            icon = imageCache.get(path);
+            if (icon != null) {
+                return icon;
+            }
+            if (atlas != null && atlas.contains(path)) {
+                icon = AcceleratedImages.createIcon(atlas.getImage(path));
+                imageCache.put(path, icon);
+                return icon;
+            }
+            // Assumes images are in 'resources/images' which is on the classpath
+            // The leading "/" is important for getResource to search from the classpath
+            // root.
+            URL imgURL = ImageLoader.class.getResource("/images/" + path);
+            if (imgURL != null) {
+                // ImageIO decodes on the calling thread; ImageIcon(URL) would funnel
+                // every load through the single shared MediaTracker.
+                BufferedImage img = ImageIO.read(imgURL);
+                if (img != null) {
+                    icon = AcceleratedImages.createIcon(img);
+                    imageCache.put(path, icon);
+                } else {
+                    System.err.println("Unsupported image format: /images/" + path);
+                }
+            } else {
+                System.err.println("Couldn't find file: /images/" + path);
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading image /images/" + path + ": " + e.getMessage());
+        } finally {
+            decode.complete(icon);
+            inFlight.remove(path, decode);
+        }
+        return icon;
+    }
+
+    /**
+     * Starts decoding every image under resources/images on a small pool of
+     * background threads. Calling it again returns the same future.
+     *
+     * @return A future that completes once all images are in the cache.
+     */
+    public static synchronized CompletableFuture<Void> startPreload() {
+        if (preloadFuture != null) {
+            return preloadFuture;
+        }
+        long startNanos = System.nanoTime();
+        List<String> names = new ArrayList<>(listImageResources());
+        // Shapes drawn as vectors never need their bitmaps
+        names.removeIf(ShapeRenderer::replacesImage);
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "image-preload-" + threadCount.incrementAndGet());
+            t.setDaemon(true); // Never keep the JVM alive just for preloading
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        });
+
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[names.size()];
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            tasks[i] = CompletableFuture.runAsync(() -> decodeAndCache(name), pool);
+        }
+        preloadFuture = CompletableFuture.allOf(tasks).whenComplete((ignored, error) -> {
+            pool.shutdown();
+            lastPreloadMillis = (System.nanoTime() - startNanos) / 1_000_000;
+            System.out.println("Preloaded " + names.size() + " images in " + lastPreloadMillis + " ms");
+        });
+        return preloadFuture;
+    }
+
+    /**
+     * Returns the preload future, for panels that want to wait until all images
+     * are decoded. If preloading was never started, the future is already
+     * complete and images are simply loaded on demand.
+     */
+    public static synchronized CompletableFuture<Void> getPreloadFuture() {
+        return preloadFuture != null ? preloadFuture : CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * @return How long the last preload took in milliseconds, or -1 if none has
+     *         finished yet.
+     */
+    public static long getLastPreloadMillis() {
+        return lastPreloadMillis;
+    }
+
+    /**
+     * Lists the file names of all images under /images on the classpath, both
+     * when running from a directory and from a jar.
+     */
+    static List<String> listImageResources() {
+        if (atlas != null) {
+            return atlas.getNames();
+        }
+        URL dirURL = ImageLoader.class.getResource("/images");
+        if (dirURL == null) {
+            System.err.println("Warning: /images not found on the classpath, nothing to preload.");
+            return Collections.emptyList();
+        }
+        try {
+            URI uri = dirURL.toURI();
+            if ("jar".equals(uri.getScheme())) {
+                FileSystem fs;
+                try {
+                    fs = FileSystems.newFileSystem(uri, Collections.emptyMap());
+                } catch (FileSystemAlreadyExistsException e) {
+                    fs = FileSystems.getFileSystem(uri);
+                }
+                return listImageFiles(fs.getPath("/images"));
+            }
+            return listImageFiles(Paths.get(uri));
+        } catch (IOException | URISyntaxException e) {
+            System.err.println("Error listing images for preload: " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Looks for a packed image atlas: the file named by -Dshapeville.imageAtlas,
+     * else resources/images.atlas in the working directory, else images.atlas in
+     * a classpath directory. Returns null (plain PNG loading) if none is usable.
+     */
+    private static ImageAtlas openAtlas() {
+        Path file = null;
+        String configured = System.getProperty("shapeville.imageAtlas");
+        if (configured != null) {
+            file = Paths.get(configured);
         } else {
-            System.err.println("Couldn't find file: /images/" + path);
-            return placeholderIcon; // Return placeholder if image not found
+            Path local = Paths.get("resources", ImageAtlas.DEFAULT_FILE_NAME);
+            if (Files.isRegularFile(local)) {
+                file = local;
+            } else {
+                // Mapping needs a real file, so an atlas inside a jar is ignored
+                URL atlasURL = ImageLoader.class.getResource("/" + ImageAtlas.DEFAULT_FILE_NAME);
+                if (atlasURL != null && "file".equals(atlasURL.getProtocol())) {
+                    try {
+                        file = Paths.get(atlasURL.toURI());
+                    } catch (URISyntaxException e) {
+                        file = null;
+                    }
+                }
+            }
+        }
+        if (file == null || !Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return ImageAtlas.open(file);
+        } catch (IOException e) {
+            System.err.println("Warning: ignoring image atlas " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<String> listImageFiles(Path dir) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.toLowerCase().endsWith(".png"))
+                    .forEach(names::add);
         }
+        Collections.sort(names);
+        return names;
     }
 
+    /**
+     * Loads an image scaled to exactly the given size. Scaled variants are cached
+     * by (path, width, height), so repeated layouts only cost a map lookup.
+     */
     public static ImageIcon loadAndScaleImage(String path, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return loadImage(path);
+        }
+        String key = path + "@" + width + "x" + height;
+        ImageIcon scaled = scaledCache.get(key);
+        if (scaled != null) {
+            return scaled;
+        }
         ImageIcon originalIcon = loadImage(path);
-        if (originalIcon != null && originalIcon != placeholderIcon) {
-            Image img = originalIcon.getImage();
-            Image scaledImg = img.getScaledInstance(width, height, Image.SCALE_SMOOTH);
-            return new ImageIcon(scaledImg);
+        // If original is placeholder or null, this scales the placeholder if available
+        if (originalIcon == null) {
+            return null; // Or a default blank icon
         }
-        // If original is placeholder or null, scale placeholder if available
-        if (placeholderIcon != null) {
-            Image img = placeholderIcon.getImage();
-            Image scaledImg = img.getScaledInstance(width, height, Image.SCALE_SMOOTH);
-            return new ImageIcon(scaledImg);
+        scaled = AcceleratedImages.createIcon(ImageScaler.scale(originalIcon.getImage(), width, height));
+        if (originalIcon != placeholderIcon) {
+            scaledCache.put(key, scaled);
         }
-        return null; // Or a default blank icon
+        return scaled;
+    }
+
+    /**
+     * Loads an image scaled to the given width, keeping its aspect ratio.
+     */
+    public static ImageIcon loadAndScaleToWidth(String path, int width) {
+        ImageIcon originalIcon = loadImage(path);
+        if (originalIcon == null || originalIcon.getIconWidth() <= 0) {
+            return originalIcon;
+        }
+        int height = ImageScaler.heightForWidth(originalIcon.getIconWidth(), originalIcon.getIconHeight(), width);
+        return loadAndScaleImage(path, width, height);
+    }
+
+    /**
+     * Loads an image and, if it is larger than the given bounds, scales it down to
+     * fit while keeping its aspect ratio. Smaller images are returned unscaled.
+     */
+    public static ImageIcon loadAndFitImage(String path, int maxWidth, int maxHeight) {
+        ImageIcon originalIcon = loadImage(path);
+        if (originalIcon == null || originalIcon.getIconWidth() <= 0) {
+            return originalIcon;
+        }
+        int w = originalIcon.getIconWidth();
+        int h = originalIcon.getIconHeight();
+        if (w <= maxWidth && h <= maxHeight) {
+            return originalIcon;
+        }
+        double ratio = Math.min((double) maxWidth / w, (double) maxHeight / h);
+        return loadAndScaleImage(path, Math.max(1, (int) (w * ratio)), Math.max(1, (int) (h * ratio)));
     }
 
     public static ImageIcon getPlaceholderIcon() {
         return placeholderIcon;
     }
+
+    /**
+     * Gives access to the shared image cache, e.g. to read its hit/miss/eviction
+     * counters.
+     */
+    public static ImageCache getCache() {
+        return imageCache;
+    }
+
+    /**
+     * Gives access to the cache of scaled image variants.
+     */
+    public static ImageCache getScaledCache() {
+        return scaledCache;
+    }
 }
\ No newline at end of file
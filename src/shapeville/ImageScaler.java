@@ -0,0 +1,91 @@
+package shapeville;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * Resamples images with Graphics2D instead of {@link Image#getScaledInstance},
+ * which uses a slow area-averaging filter for SCALE_SMOOTH.
+ *
+ * Large reductions are done progressively (halving with bilinear interpolation
+ * until close to the target), which keeps quality close to SCALE_SMOOTH at a
+ * fraction of the cost.
+ */
+public final class ImageScaler {
+
+    private ImageScaler() {
+    }
+
+    /**
+     * Scales an image to exactly the given size.
+     *
+     * @param source The image to scale.
+     * @param width  Target width in pixels (must be positive).
+     * @param height Target height in pixels (must be positive).
+     * @return A new ARGB image of the requested size.
+     */
+    public static BufferedImage scale(Image source, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Target size must be positive: " + width + "x" + height);
+        }
+        BufferedImage current = toBufferedImage(source);
+        int w = current.getWidth();
+        int h = current.getHeight();
+
+        // Progressive downscale: halve each dimension while it is still more than
+        // twice the target, so bilinear never skips source pixels.
+        while (w / 2 >= width || h / 2 >= height) {
+            int nextW = w / 2 >= width ? w / 2 : w;
+            int nextH = h / 2 >= height ? h / 2 : h;
+            current = resample(current, nextW, nextH);
+            w = nextW;
+            h = nextH;
+        }
+        if (w == width && h == height) {
+            return current;
+        }
+        return resample(current, width, height);
+    }
+
+    /**
+     * Computes the height that keeps the aspect ratio when scaling to the given
+     * width (the equivalent of passing -1 to getScaledInstance).
+     */
+    public static int heightForWidth(int sourceWidth, int sourceHeight, int width) {
+        if (sourceWidth <= 0) {
+            return sourceHeight;
+        }
+        return Math.max(1, (int) Math.round((double) sourceHeight * width / sourceWidth));
+    }
+
+    private static BufferedImage resample(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = target.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2d.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g2d.dispose();
+        }
+        return target;
+    }
+
+    private static BufferedImage toBufferedImage(Image image) {
+        if (image instanceof BufferedImage) {
+            return (BufferedImage) image;
+        }
+        // Toolkit images (e.g. from ImageIcon(URL)) are already fully loaded by ImageIcon
+        BufferedImage copy = new BufferedImage(Math.max(1, image.getWidth(null)), Math.max(1, image.getHeight(null)),
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = copy.createGraphics();
+        try {
+            g2d.drawImage(image, 0, 0, null);
+        } finally {
+            g2d.dispose();
+        }
+        return copy;
+    }
+}
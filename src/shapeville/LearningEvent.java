@@ -0,0 +1,64 @@
+package shapeville;
+
+/**
+ * Immutable notification about something the learner just did, published on
+ * the {@link LearningEventBus}.
+ */
+public final class LearningEvent {
+
+    public enum Type {
+        ATTEMPT_RECORDED, // An answer was submitted for the current question
+        POINTS_AWARDED, // A question was answered correctly (points may be 0)
+        QUESTION_COMPLETED // The learner moved on from a question, solved or not
+    }
+
+    private final Type type;
+    private final int points; // Points awarded by this event (POINTS_AWARDED only)
+    private final int attempts; // Attempts made on the current question
+    private final int totalScore; // Session score after this event
+
+    private LearningEvent(Type type, int points, int attempts, int totalScore) {
+        this.type = type;
+        this.points = points;
+        this.attempts = attempts;
+        this.totalScore = totalScore;
+    }
+
+    public static LearningEvent attemptRecorded(int attempts, int totalScore) {
+        return new LearningEvent(Type.ATTEMPT_RECORDED, 0, attempts, totalScore);
+    }
+
+    public static LearningEvent pointsAwarded(int points, int attempts, int totalScore) {
+        return new LearningEvent(Type.POINTS_AWARDED, points, attempts, totalScore);
+    }
+
+    public static LearningEvent questionCompleted(int attempts, int totalScore) {
+        return new LearningEvent(Type.QUESTION_COMPLETED, 0, attempts, totalScore);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public int getTotalScore() {
+        return totalScore;
+    }
+
+    @Override
+    public String toString() {
+        return "LearningEvent{" +
+                "type=" + type +
+                ", points=" + points +
+                ", attempts=" + attempts +
+                ", totalScore=" + totalScore +
+                '}';
+    }
+}
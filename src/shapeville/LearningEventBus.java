@@ -0,0 +1,85 @@
+package shapeville;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Asynchronous dispatcher for {@link LearningEvent}s.
+ *
+ * Publishing only puts the event into a bounded, array-backed queue, so the
+ * caller (scoring on the EDT) never waits for subscribers such as sound or the
+ * home screen. A single daemon thread delivers events to the subscribers in
+ * publication order.
+ */
+public class LearningEventBus {
+    private static final int QUEUE_CAPACITY = 256;
+
+    private final BlockingQueue<LearningEvent> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final CopyOnWriteArrayList<LearningEventListener> listeners = new CopyOnWriteArrayList<>();
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+    private volatile long droppedEvents;
+
+    public LearningEventBus() {
+        dispatcher = new Thread(this::dispatchLoop, "learning-events");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    public void subscribe(LearningEventListener listener) {
+        if (listener != null) {
+            listeners.addIfAbsent(listener);
+        }
+    }
+
+    public void unsubscribe(LearningEventListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Queues an event for delivery and returns immediately. If the queue is full
+     * (subscribers far behind) the event is dropped rather than blocking.
+     */
+    public void publish(LearningEvent event) {
+        if (event == null || !running) {
+            return;
+        }
+        if (!queue.offer(event)) {
+            synchronized (this) {
+                droppedEvents++;
+            }
+        }
+    }
+
+    public long getDroppedEvents() {
+        return droppedEvents;
+    }
+
+    /**
+     * Stops the dispatcher thread. Events still queued are discarded.
+     */
+    public void shutdown() {
+        running = false;
+        dispatcher.interrupt();
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            LearningEvent event;
+            try {
+                event = queue.take();
+            } catch (InterruptedException e) {
+                continue; // Re-check running
+            }
+            for (LearningEventListener listener : listeners) {
+                try {
+                    listener.onLearningEvent(event);
+                } catch (RuntimeException e) {
+                    // One faulty subscriber must not stop delivery to the others
+                    System.err.println("Error in learning event listener: " + e);
+                }
+            }
+        }
+    }
+}
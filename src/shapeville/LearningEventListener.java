@@ -0,0 +1,9 @@
+package shapeville;
+
+/**
+ * Receives {@link LearningEvent}s from a {@link LearningEventBus}. Called on the
+ * bus's dispatcher thread, so Swing work must be passed to the EDT.
+ */
+public interface LearningEventListener {
+    void onLearningEvent(LearningEvent event);
+}
@@ -0,0 +1,51 @@
+package shapeville;
+
+/**
+ * When to check in with a learner who seems stuck on a timed question.
+ *
+ * The defaults (after 90 s without input, then at most every 90 s) can be
+ * changed with -Dshapeville.nudge.idleSeconds and
+ * -Dshapeville.nudge.repeatSeconds, or nudges turned off with
+ * -Dshapeville.nudge=false.
+ */
+public final class NudgePolicy {
+    public static final NudgePolicy DISABLED = new NudgePolicy(false, 0, 0);
+
+    private final boolean enabled;
+    private final long idleMillis;
+    private final long repeatMillis;
+
+    public NudgePolicy(boolean enabled, long idleMillis, long repeatMillis) {
+        this.enabled = enabled;
+        this.idleMillis = idleMillis;
+        this.repeatMillis = repeatMillis;
+    }
+
+    public static NudgePolicy fromSystemProperties() {
+        boolean enabled = Boolean.parseBoolean(System.getProperty("shapeville.nudge", "true"));
+        long idleSeconds = Long.getLong("shapeville.nudge.idleSeconds", 90);
+        long repeatSeconds = Long.getLong("shapeville.nudge.repeatSeconds", 90);
+        return new NudgePolicy(enabled, idleSeconds * 1000, repeatSeconds * 1000);
+    }
+
+    /**
+     * @param idleMillis            Time since the learner's last input.
+     * @param millisSinceLastNudge  Time since the last nudge this question, or
+     *                              Long.MAX_VALUE if there has been none.
+     */
+    public boolean shouldNudge(long idleMillis, long millisSinceLastNudge) {
+        return enabled && idleMillis >= this.idleMillis && millisSinceLastNudge >= repeatMillis;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getIdleMillis() {
+        return idleMillis;
+    }
+
+    public long getRepeatMillis() {
+        return repeatMillis;
+    }
+}
@@ -0,0 +1,154 @@
+package shapeville;
+
+/**
+ * Reads typed numbers straight into scaled integers without throwing or
+ * allocating. The text is checked against the number grammar first, so bad
+ * input costs a scan instead of an exception.
+ *
+ * Accepted: optional surrounding whitespace, an optional sign, digits with an
+ * optional decimal point (".5" and "5." are fine) and an optional exponent
+ * ("1.2e3"). Digits are used exactly as typed, so "2.675" is 2.675, not the
+ * nearest double.
+ */
+public final class NumericParser {
+    /** Returned by {@link #parseUnits} for text that is not a usable number. */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    // Exponents beyond this cannot give a value that fits in a long anyway
+    private static final int MAX_EXPONENT = 10_000;
+
+    private NumericParser() {
+    }
+
+    public static boolean isBlank(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if {@link #parseUnits} would accept the text's form (the
+     *         value may still be too large).
+     */
+    public static boolean isValid(CharSequence text) {
+        return new Layout().scan(text);
+    }
+
+    /**
+     * Parses text as a number rounded to the given number of decimal places.
+     *
+     * @return The number of units in the last place (e.g. 1235 for "12.345" at
+     *         two places, half-even), or {@link #INVALID} if the text is not a
+     *         number or the result does not fit in a long.
+     */
+    public static long parseUnits(CharSequence text, int digits, RoundingPolicy rounding) {
+        FixedDecimal.powerOfTen(digits); // Validates digits
+        Layout layout = new Layout(); // Scalar-replaced by the JIT; no garbage in practice
+        if (!layout.scan(text)) {
+            return INVALID;
+        }
+        int totalDigits = layout.intDigits + layout.fracDigits;
+        // Mantissa digits that land left of the graded decimal place
+        int keep = totalDigits + digits + layout.exponent - layout.fracDigits;
+        long units = 0;
+        int firstDropped = 0; // An implicit 0 if every digit is dropped
+        boolean moreDropped = false;
+        for (int k = 0; k < totalDigits; k++) {
+            int pos = k < layout.intDigits ? layout.intStart + k : layout.fracStart + k - layout.intDigits;
+            int d = text.charAt(pos) - '0';
+            if (k < keep) {
+                if (units > (Long.MAX_VALUE - d) / 10) {
+                    return INVALID; // Too large
+                }
+                units = units * 10 + d;
+            } else if (k == keep) {
+                firstDropped = d;
+            } else if (d != 0) {
+                moreDropped = true;
+            }
+        }
+        for (int k = totalDigits; k < keep && units != 0; k++) { // Trailing zeros from the exponent
+            if (units > Long.MAX_VALUE / 10) {
+                return INVALID;
+            }
+            units *= 10;
+        }
+        if (rounding.roundsUp(units, firstDropped, moreDropped)) {
+            if (units == Long.MAX_VALUE) {
+                return INVALID;
+            }
+            units++;
+        }
+        return layout.negative ? -units : units;
+    }
+
+    /**
+     * Where the parts of a number are in the text.
+     */
+    private static final class Layout {
+        boolean negative;
+        int intStart;
+        int intDigits;
+        int fracStart;
+        int fracDigits;
+        int exponent;
+
+        boolean scan(CharSequence text) {
+            int start = 0;
+            int end = text.length();
+            while (start < end && Character.isWhitespace(text.charAt(start))) {
+                start++;
+            }
+            while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+                end--;
+            }
+            int i = start;
+            if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                negative = text.charAt(i) == '-';
+                i++;
+            }
+            intStart = i;
+            while (i < end && isDigit(text.charAt(i))) {
+                i++;
+            }
+            intDigits = i - intStart;
+            fracStart = i;
+            if (i < end && text.charAt(i) == '.') {
+                fracStart = ++i;
+                while (i < end && isDigit(text.charAt(i))) {
+                    i++;
+                }
+                fracDigits = i - fracStart;
+            }
+            if (intDigits + fracDigits == 0) {
+                return false;
+            }
+            if (i < end && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+                i++;
+                boolean negativeExponent = false;
+                if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                    negativeExponent = text.charAt(i) == '-';
+                    i++;
+                }
+                int expStart = i;
+                int value = 0;
+                while (i < end && isDigit(text.charAt(i))) {
+                    value = Math.min(MAX_EXPONENT, value * 10 + text.charAt(i) - '0');
+                    i++;
+                }
+                if (i == expStart) {
+                    return false;
+                }
+                exponent = negativeExponent ? -value : value;
+            }
+            return i == end;
+        }
+
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
+    }
+}
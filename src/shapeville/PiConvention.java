@@ -0,0 +1,27 @@
+package shapeville;
+
+/**
+ * The value of π an answer is worked out with. Circle questions use the exact
+ * value; sector questions tell the learner to use 3.14 (Figure 13).
+ */
+public enum PiConvention {
+    APPROXIMATE(3.14, "3.14"),
+    EXACT(Math.PI, "π");
+
+    private final double value;
+    private final String symbol;
+
+    PiConvention(double value, String symbol) {
+        this.value = value;
+        this.symbol = symbol;
+    }
+
+    public double value() {
+        return value;
+    }
+
+    /** How the value is written in instructions and solutions. */
+    public String getSymbol() {
+        return symbol;
+    }
+}
@@ -0,0 +1,507 @@
+package shapeville;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * The question content shared by all learners: the shapes to identify, the
+ * area and circle task keys, and the compound shape and sector questions.
+ *
+ * A bank never changes after it is built, so one instance (see
+ * {@link #getShared()}) can serve any number of {@link Session}s on any
+ * threads. Which question a learner sees next, and what they have done, is
+ * kept in their Session, never here.
+ *
+ * !!! THIS IS A CRITICAL FILE THAT YOU NEED TO POPULATE WITH DATA !!!
+ * The example data below is minimal. You must add all shapes, dimensions,
+ * pre-calculated answers, and solution breakdowns as per the project
+ * specification.
+ */
+public final class QuestionBank {
+    private final Section<ShapeData> shapes2D;
+    private final Section<ShapeData> shapes3D;
+    private final ShapeNameMatcher shapeNameMatcher; // Over 2D and 3D shapes, so either kind is recognised
+    private final Section<String> basicAreaShapeTypes; // e.g., "Rectangle", "Parallelogram", etc.
+    private final Section<String> circleCalcTaskKeys; // RadiusArea, DiameterArea, ...
+
+    // External question bank file (null if none); only its index is read up front
+    private final QuestionBankFile bankFile;
+    // Loaded when their task first needs them
+    private volatile Section<CompoundShapeData> compoundShapes;
+    private volatile Section<SectorAreaData> sectors;
+
+    /**
+     * An immutable list of questions with id and name lookups. Each item's
+     * ordinal is its position in the list, which Sessions use to track progress.
+     */
+    public static final class Section<T> {
+        private final List<T> items;
+        private final Map<String, Integer> ordinalsById;
+        private final Map<String, T> itemsByName;
+        private final String[] names; // For JComboBoxes
+
+        Section(List<T> items, Function<T, String> idOf, Function<T, String> nameOf) {
+            int count = items.size();
+            this.items = Collections.unmodifiableList(new ArrayList<>(items));
+            this.ordinalsById = new HashMap<>(count * 2);
+            this.itemsByName = new HashMap<>(count * 2);
+            this.names = new String[count];
+            for (int i = 0; i < count; i++) {
+                T item = items.get(i);
+                ordinalsById.putIfAbsent(idOf.apply(item), i);
+                itemsByName.putIfAbsent(nameOf.apply(item), item); // First wins, as a linear scan would
+                names[i] = nameOf.apply(item);
+            }
+        }
+
+        public int size() {
+            return items.size();
+        }
+
+        public T get(int ordinal) {
+            return items.get(ordinal);
+        }
+
+        public List<T> getItems() {
+            return items;
+        }
+
+        /**
+         * @return The item's ordinal, or -1 if no item has this id.
+         */
+        public int ordinalOf(String id) {
+            Integer ordinal = id == null ? null : ordinalsById.get(id);
+            return ordinal == null ? -1 : ordinal;
+        }
+
+        public T getById(String id) {
+            int ordinal = ordinalOf(id);
+            return ordinal < 0 ? null : items.get(ordinal);
+        }
+
+        public T getByName(String name) {
+            return name == null ? null : itemsByName.get(name);
+        }
+
+        /**
+         * @return The item names in ordinal order. The array is shared, so callers
+         *         must not modify it.
+         */
+        public String[] getNames() {
+            return names;
+        }
+    }
+
+    private static final class SharedHolder {
+        static final QuestionBank INSTANCE = new QuestionBank(openQuestionBankFile());
+    }
+
+    /**
+     * @return The bank used by the app, created on first use.
+     */
+    public static QuestionBank getShared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * @param bankFile File to read compound shapes and sectors from, or null to
+     *                 use the built-in data.
+     */
+    public QuestionBank(QuestionBankFile bankFile) {
+        this.bankFile = bankFile;
+        this.shapes2D = new Section<>(createShapes2D(), ShapeData::getId, ShapeData::getName);
+        this.shapes3D = new Section<>(createShapes3D(), ShapeData::getId, ShapeData::getName);
+        List<ShapeData> allShapes = new ArrayList<>(shapes2D.getItems());
+        allShapes.addAll(shapes3D.getItems());
+        this.shapeNameMatcher = new ShapeNameMatcher(allShapes);
+        this.basicAreaShapeTypes = new Section<>(
+                Arrays.asList("Rectangle", "Parallelogram", "Triangle", "Trapezium"), t -> t, t -> t);
+        this.circleCalcTaskKeys = new Section<>(Arrays.asList(
+                "RadiusArea", "DiameterArea",
+                "RadiusCircumference", "DiameterCircumference"), k -> k, k -> k);
+    }
+
+    public Section<ShapeData> getShapes(boolean is3D) {
+        return is3D ? shapes3D : shapes2D;
+    }
+
+    public ShapeNameMatcher getShapeNameMatcher() {
+        return shapeNameMatcher;
+    }
+
+    public Section<String> getBasicAreaShapeTypes() {
+        return basicAreaShapeTypes;
+    }
+
+    public Section<String> getCircleCalcTaskKeys() {
+        return circleCalcTaskKeys;
+    }
+
+    public boolean isCompoundShapesLoaded() {
+        return compoundShapes != null;
+    }
+
+    public boolean isSectorsLoaded() {
+        return sectors != null;
+    }
+
+    /**
+     * @return The compound shape questions, loaded from the bank file (or the
+     *         built-in data) the first time any session needs them.
+     */
+    public Section<CompoundShapeData> getCompoundShapes() {
+        Section<CompoundShapeData> section = compoundShapes;
+        if (section == null) {
+            synchronized (this) {
+                section = compoundShapes;
+                if (section == null) {
+                    section = new Section<>(loadCompoundShapeData(), CompoundShapeData::getId,
+                            CompoundShapeData::getName);
+                    compoundShapes = section;
+                }
+            }
+        }
+        return section;
+    }
+
+    public Section<SectorAreaData> getSectors() {
+        Section<SectorAreaData> section = sectors;
+        if (section == null) {
+            synchronized (this) {
+                section = sectors;
+                if (section == null) {
+                    section = new Section<>(loadSectorAreaData(), SectorAreaData::getId, SectorAreaData::getName);
+                    sectors = section;
+                }
+            }
+        }
+        return section;
+    }
+
+    private static String format(double value) {
+        return FixedDecimal.format(value);
+    }
+
+    /**
+     * Opens the question bank given by -Dshapeville.questionBank, or
+     * resources/questions.bank if it exists.
+     *
+     * @return The bank file, or null to use the built-in data.
+     */
+    static QuestionBankFile openQuestionBankFile() {
+        String configured = System.getProperty("shapeville.questionBank");
+        Path file = configured != null ? Paths.get(configured)
+                : Paths.get("resources", QuestionBankFile.DEFAULT_FILE_NAME);
+        if (!Files.isRegularFile(file)) {
+            if (configured != null) {
+                System.err.println("Warning: question bank not found: " + file);
+            }
+            return null;
+        }
+        try {
+            return QuestionBankFile.open(file);
+        } catch (IOException e) {
+            System.err.println("Warning: ignoring question bank " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private List<CompoundShapeData> loadCompoundShapeData() {
+        if (bankFile != null && bankFile.hasSection(QuestionBankFile.SECTION_COMPOUND_SHAPES)) {
+            try {
+                return bankFile.readCompoundShapes();
+            } catch (IOException e) {
+                System.err.println("Warning: using built-in compound shapes: " + e.getMessage());
+            }
+        }
+        return createBuiltInCompoundShapes();
+    }
+
+    private List<SectorAreaData> loadSectorAreaData() {
+        if (bankFile != null && bankFile.hasSection(QuestionBankFile.SECTION_SECTOR_AREAS)) {
+            try {
+                return bankFile.readSectorAreas();
+            } catch (IOException e) {
+                System.err.println("Warning: using built-in sectors: " + e.getMessage());
+            }
+        }
+        return createBuiltInSectors();
+    }
+
+    // --- Built-in Data (YOU NEED TO COMPLETE THESE) ---
+    private static List<ShapeData> createShapes2D() {
+        List<ShapeData> shapes2D = new ArrayList<>();
+        // From Figure 1
+        shapes2D.add(new ShapeData("circle", "circle.png", false));
+        shapes2D.add(new ShapeData("rectangle", "rectangle.png", false, "oblong"));
+        shapes2D.add(new ShapeData("triangle", "triangle.png", false));
+        shapes2D.add(new ShapeData("oval", "oval.png", false, "ellipse"));
+        shapes2D.add(new ShapeData("square", "square.png", false));
+        shapes2D.add(new ShapeData("rhombus", "rhombus.png", false, "diamond"));
+        shapes2D.add(new ShapeData("pentagon", "pentagon.png", false));
+        shapes2D.add(new ShapeData("hexagon", "hexagon.png", false));
+        shapes2D.add(new ShapeData("heptagon", "heptagon.png", false, "septagon"));
+        shapes2D.add(new ShapeData("octagon", "octagon.png", false));
+        shapes2D.add(new ShapeData("kite", "kite.png", false));
+        return shapes2D;
+    }
+
+    private static List<ShapeData> createShapes3D() {
+        List<ShapeData> shapes3D = new ArrayList<>();
+        // From Figure 2
+        shapes3D.add(new ShapeData("cube", "cube.png", true));
+        shapes3D.add(new ShapeData("cuboid", "cuboid.png", true, "rectangular prism"));
+        shapes3D.add(new ShapeData("cylinder", "cylinder.png", true));
+        shapes3D.add(new ShapeData("sphere", "sphere.png", true));
+        shapes3D.add(new ShapeData("triangular prism", "triangular_prism.png", true));
+        shapes3D.add(new ShapeData("square-based pyramid", "square_pyramid.png", true, "square pyramid"));
+        shapes3D.add(new ShapeData("cone", "cone.png", true));
+        shapes3D.add(new ShapeData("tetrahedron", "tetrahedron.png", true, "triangular pyramid",
+                "triangle-based pyramid"));
+        return shapes3D;
+    }
+
+    // ---------->>> YOU MUST COMPLETE THE FOLLOWING TWO METHODS <<<----------
+    /**
+     * Built-in compound shape data, used when no question bank file is present
+     * and by {@link QuestionBankWriter}. Solution text is only built when shown.
+     */
+    static List<CompoundShapeData> createBuiltInCompoundShapes() {
+        List<CompoundShapeData> shapes = new ArrayList<>();
+        // EXAMPLE (Shape 1 from your previous example, using Fig 10 Shape 1 values)
+        // Rect: 14cm base, 5cm height (part of total height of outer shape if it's a
+        // house like shape)
+        // Triangle on top: 14cm base, (e.g. 5cm height if outer total height is 10cm
+        // for the house part)
+        // THIS IS JUST A PLACEHOLDER STRUCTURE.
+        // YOU NEED TO ANALYZE EACH OF THE 9 SHAPES IN FIGURE 10.
+        // Map<String, Object> shape1 = new HashMap<>();
+        // shape1.put("id", "_Fig10_1");
+        // shape1.put("name", "Compound Shape (Fig 10 - 1)"); // Use a descriptive name
+        // shape1.put("image", "compound1.png"); // Ensure this image exists
+
+        // Example for a shape made of a 14x5 rectangle and a triangle of base 14,
+        // height 3
+        // double rectArea1 = 14 * 5; // 70
+        // double triArea1 = 0.5 * 14 * 3; // 21
+        // double totalArea1 = rectArea1 + triArea1; // 91
+        // shape1.put("area", totalArea1);
+
+        // StringBuilder sol1 = new StringBuilder();
+        // sol1.append("Split into a rectangle and a triangle.\n");
+        // sol1.append("Rectangle: 14cm × 5cm = ").append(format(rectArea1)).append("
+        // cm²\n");
+        // sol1.append("Triangle: 0.5 × 14cm × 3cm =
+        // ").append(format(triArea1)).append(" cm²\n");
+        // sol1.append("Total Area = ").append(format(rectArea1)).append(" +
+        // ").append(format(triArea1))
+        // .append(" = ").append(format(totalArea1)).append(" cm²");
+        // shape1.put("solution_breakdown", sol1.toString());
+        // compoundShapesDataList.add(shape1);
+
+        // ... ADD ALL 8 OTHER COMPOUND SHAPES FROM FIGURE 10 HERE ...
+
+        double area2_rect_top = 20.0 * (20.0 - 10.0); // 20 * 11 = 220
+        double area2_rect_bottom_left = 11.0 * 10.0; // 110
+        double totalArea2 = area2_rect_top + area2_rect_bottom_left; // 330
+        shapes.add(new CompoundShapeData("CS_Fig10_2", "Compound Shape (Fig 10-2)", "compound2.png",
+                totalArea2, "cm", new double[] { 20, 21, 10, 11 }, () -> {
+            StringBuilder sol2 = new StringBuilder();
+            sol2.append("Decompose into two rectangles:\n");
+            sol2.append("1. Top Rectangle: 20 cm × (21-10) cm = 20 cm × 11 cm = ").append(format(area2_rect_top))
+                    .append(" cm²\n");
+            sol2.append("2. Bottom-Left Rectangle: 11 cm × 10 cm = ").append(format(area2_rect_bottom_left))
+                    .append(" cm²\n");
+            sol2.append("Total Area = ").append(format(area2_rect_top)).append(" + ")
+                    .append(format(area2_rect_bottom_left))
+                    .append(" = ").append(format(totalArea2)).append(" cm²");
+            return sol2.toString();
+        }));
+
+        double area3_rect_left = 18.0 * 19.0; // 342
+        double area3_rect_right = 16.0 * 16.0; // 256
+        double totalArea3 = area3_rect_left + area3_rect_right; // 598
+        shapes.add(new CompoundShapeData("CS_Fig10_3", "Compound Shape (Fig 10-3)", "compound3.png",
+                totalArea3, "cm", new double[] { 18, 19, 16, 16 }, () -> {
+            StringBuilder sol3 = new StringBuilder();
+            sol3.append("Decompose into two rectangles:\n");
+            sol3.append("1. Left Rectangle: 18 cm × 19 cm = ").append(format(area3_rect_left)).append(" cm²\n");
+            sol3.append("2. Right Rectangle: 16 cm × 16 cm = ").append(format(area3_rect_right)).append(" cm²\n");
+            sol3.append("Total Area = ").append(format(area3_rect_left)).append(" + ")
+                    .append(format(area3_rect_right))
+                    .append(" = ").append(format(totalArea3)).append(" cm²");
+            return sol3.toString();
+        }));
+
+        double area4_bottom = 24.0 * 6.0; // 144
+        double area4_top = 12.0 * 12.0; // 144
+        double totalArea4 = area4_bottom + area4_top; // 216
+        shapes.add(new CompoundShapeData("CS_Fig10_4", "Compound Shape (Fig 10-4)", "compound4.png",
+                totalArea4, "m", new double[] { 24, 6, 12, 12 }, () -> {
+            StringBuilder sol4 = new StringBuilder();
+            sol4.append("Decompose into three rectangles (from bottom to top):\n");
+            sol4.append("1. Bottom Rectangle: 24 m × 6 m = ").append(format(area4_bottom)).append(" m²\n");
+            sol4.append("2. Top Rectangle: 12 m × 12 m = ").append(format(area4_top)).append(" m²\n");
+            sol4.append("Total Area = ").append(format(area4_bottom)).append(" + ").append(format(area4_top))
+                    .append(" = ").append(format(totalArea4)).append(" m²");
+            return sol4.toString();
+        }));
+
+        double area5_rect = 4.0 * 3.0; // 12
+        double area5_tri = 0.5 * 4.0 * (6.0 - 3.0); // 0.5 * 4 * 2 = 4
+        double totalArea5 = area5_rect + area5_tri; // 12
+        shapes.add(new CompoundShapeData("CS_Fig10_5", "Compound Shape (Fig 10-5)", "compound5.png",
+                totalArea5, "m", new double[] { 4, 3, 6 }, () -> {
+            StringBuilder sol5 = new StringBuilder();
+            sol5.append("Decompose into a rectangle and a right-angled triangle:\n");
+            sol5.append("1. Bottom Rectangle: 4 m × 2 m = ").append(format(area5_rect)).append(" m²\n");
+            sol5.append("2. Top Triangle: base 4 m, height (4-2) m = 2 m. Area = 0.5 × 4 m × 2 m = ")
+                    .append(format(area5_tri)).append(" m²\n");
+            sol5.append("Total Area = ").append(format(area5_rect)).append(" + ").append(format(area5_tri))
+                    .append(" = ").append(format(totalArea5))
+                    .append(" m² (Ignoring the '16m' as it seems unrelated or a typo for this specific shape).");
+            return sol5.toString();
+        }));
+
+        // Map<String, Object> shape6 = new HashMap<>();
+        // shape6.put("id", "CS_Fig10_6");
+        // shape6.put("name", "Compound Shape (Fig 10-6 - Trapezium)");
+        // shape6.put("image", "compound6.png");
+        // double totalArea6 = 0.5 * (9.0 + 20.0) * 11.0; // 159.5
+        // shape6.put("area", totalArea6);
+        // StringBuilder sol6 = new StringBuilder();
+        // sol6.append("This shape is a trapezium.\n");
+        // sol6.append("Formula: Area = 0.5 × (a+b) × h\n");
+        // sol6.append("Given: a = 9 m, b = 20 m, h = 11 m\n");
+        // sol6.append("Area = 0.5 × (9 + 20) × 11 = 0.5 × 29 × 11 =
+        // ").append(format(totalArea6)).append(" m²");
+        // shape6.put("solution_breakdown", sol6.toString());
+        // compoundShapesDataList.add(shape6);
+
+        // Map<String, Object> shape7 = new HashMap<>();
+        // shape7.put("id", "CS_Fig10_7");
+        // shape7.put("name", "Compound Shape (Fig 10-7)");
+        // shape7.put("image", "compound7.png");
+        // double area7_rect = 14.0 * 5.0; // 70
+        // double area7_tri = 0.5 * 14.0 * (12.0 - 5.0); // 0.5 * 14 * 7 = 49
+        // double totalArea7 = area7_rect + area7_tri; // 119
+        // shape7.put("area", totalArea7);
+        // StringBuilder sol7 = new StringBuilder();
+        // sol7.append("Decompose into a rectangle and a triangle:\n");
+        // sol7.append("1. Bottom Rectangle: 14 cm × 5 cm =
+        // ").append(format(area7_rect)).append(" cm²\n");
+        // sol7.append("2. Top Triangle: base 14 cm, height (12-5) cm = 7 cm. Area = 0.5
+        // × 14 cm × 7 cm = ").append(format(area7_tri)).append(" cm²\n");
+        // sol7.append("Total Area = ").append(format(area7_rect)).append(" +
+        // ").append(format(area7_tri))
+        // .append(" = ").append(format(totalArea7)).append(" cm²");
+        // shape7.put("solution_breakdown", sol7.toString());
+        // compoundShapesDataList.add(shape7);
+
+        double area8_center_col = 36.0 * (36.0 + 36.0); // 36 * 72 = 2592
+        double area8_wing = (60.0 - 36.0) * 36.0; // 24 * 36 = 864
+        double totalArea8 = area8_center_col + area8_wing; // 2592 + 864 = 3456
+        shapes.add(new CompoundShapeData("CS_Fig10_8", "Compound Shape (Fig 10-8)", "compound8.png",
+                totalArea8, "m", new double[] { 36, 72, 60, 36 }, () -> {
+            StringBuilder sol8 = new StringBuilder();
+            sol8.append("Decompose into a central tall rectangle and two side rectangles at the bottom:\n");
+            sol8.append("1. Central Rectangle: 36 m × (36+36) m = 36 m × 72 m = ").append(format(area8_center_col))
+                    .append(" m²\n");
+            sol8.append("2. Two Side Rectangles: width (60-36) = 24 m each, height 36 m.\n");
+            sol8.append("   Area of one side rectangle = 12 m × 36 m = ").append(format(area8_wing)).append(" m²\n");
+            sol8.append("   Area of both side rectangles = 2 × ").append(format(area8_wing)).append(" = ")
+                    .append(format(2 * area8_wing)).append(" m²\n");
+            sol8.append("Total Area = ").append(format(area8_center_col)).append(" + ").append(format(2 * area8_wing))
+                    .append(" = ").append(format(totalArea8)).append(" m²");
+            return sol8.toString();
+        }));
+
+        double area9_rect_left = 10.0 * 11.0; // 110
+        double area9_rect_right = 8.0 * 8.0; // 64
+        double totalArea9 = area9_rect_left + area9_rect_right; // 174
+        shapes.add(new CompoundShapeData("CS_Fig10_9", "Compound Shape (Fig 10-9)", "compound9.png",
+                totalArea9, "m", new double[] { 10, 11, 8, 8 }, () -> {
+            StringBuilder sol9 = new StringBuilder();
+            sol9.append("Decompose into two rectangles:\n");
+            sol9.append("1. Left Rectangle: 10 m × 11 m = ").append(format(area9_rect_left)).append(" m²\n");
+            sol9.append("2. Right Rectangle: 8 m × 8 m = ").append(format(area9_rect_right)).append(" m²\n");
+            sol9.append("Total Area = ").append(format(area9_rect_left)).append(" + ")
+                    .append(format(area9_rect_right))
+                    .append(" = ").append(format(totalArea9)).append(" m²");
+            return sol9.toString();
+        }));
+
+        // For each shape:
+        // 1. Determine its components (rectangles, triangles, etc.)
+        // 2. Extract dimensions from Figure 10.
+        // 3. Calculate the area of each component and the total area.
+        // 4. Create the "solution_breakdown" string.
+        // 5. Add a CompoundShapeData to shapes.
+        if (shapes.isEmpty()) { // Add a default if list is empty to avoid nulls later
+            shapes.add(new CompoundShapeData("CS_Default", "Default Compound Shape",
+                    "placeholder.png", 0.0, "cm", null, "No compound shape data loaded."));
+        }
+        return shapes;
+    }
+
+    /**
+     * Built-in sector data, used when no question bank file is present and by
+     * {@link QuestionBankWriter}.
+     */
+    static List<SectorAreaData> createBuiltInSectors() {
+        List<SectorAreaData> sectors = new ArrayList<>();
+        // From Figure 13. Areas use PI = 3.14 and are rounded to two decimal places.
+        sectors.add(createSectorData("SA_Fig13_1", "Sector (Fig 13 - 1: 8cm, 90°)", "sector1.png",
+                8.0, 90.0, "cm"));
+        sectors.add(createSectorData("SA_Fig13_2", "Sector (Fig 13 - 2: 18ft, 130°)", "sector2.png",
+                18.0, 130.0, "ft"));
+        sectors.add(createSectorData("SA_Fig13_3", "Sector (Fig 13 - 3: 19cm, 120°)", "sector3.png",
+                19.0, 120.0, "cm"));
+        sectors.add(createSectorData("SA_Fig13_4", "Sector (Fig 13 - 4: 22ft, 110°)", "sector4.png",
+                22.0, 110.0, "ft"));
+        sectors.add(createSectorData("SA_Fig13_5", "Sector (Fig 13 - 5: 3.5m, 100°)", "sector5.png",
+                3.5, 100.0, "m"));
+        sectors.add(createSectorData("SA_Fig13_6", "Sector (Fig 13 - 6: 8in, 270°)", "sector6.png",
+                8.0, 270.0, "in"));
+        sectors.add(createSectorData("SA_Fig13_7", "Sector (Fig 13 - 7: 12yd, 280°)", "sector7.png",
+                12.0, 280.0, "yd"));
+        sectors.add(createSectorData("SA_Fig13_8", "Sector (Fig 13 - 8: 15mm, 250°)", "sector8.png",
+                15.0, 250.0, "mm"));
+
+        if (sectors.isEmpty()) { // Add a default
+            sectors.add(new SectorAreaData("SA_Default", "Default Sector", "placeholder.png",
+                    0.0, 0.0, "cm", 0.0, "No sector data loaded."));
+        }
+        return sectors;
+    }
+
+    /**
+     * Calculates a sector's area (PI = 3.14, rounded to two decimal places). The
+     * worked formula is built when it is first shown.
+     */
+    private static SectorAreaData createSectorData(String id, String name, String image, double radius,
+            double angle, String unit) {
+        double area = (angle / 360.0) * PiConvention.APPROXIMATE.value() * radius * radius;
+        return new SectorAreaData(id, name, image, radius, angle, unit,
+                FixedDecimal.round(area), () -> sectorSolution(radius, angle, unit, area)); // Store rounded
+    }
+
+    /**
+     * Builds the worked formula shown after an attempt at a sector question.
+     */
+    static String sectorSolution(double radius, double angle, String unit, double area) {
+        StringBuilder sol = new StringBuilder();
+        sol.append("Formula: Area = (θ/360) × π × r²\n");
+        sol.append("Given: θ = ").append(angle).append("°, r = ").append(radius).append(" ").append(unit)
+                .append(", π ≈ 3.14\n");
+        sol.append("Area = (").append(angle).append("/360) × 3.14 × ").append(radius).append("²\n");
+        sol.append("Area = ").append(format(angle / 360.0)).append(" × 3.14 × ").append(format(radius * radius))
+                .append("\n");
+        sol.append("Area ≈ ").append(format(area)).append(" ").append(unit).append("²");
+        return sol.toString();
+    }
+}
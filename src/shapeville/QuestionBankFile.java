@@ -0,0 +1,201 @@
+package shapeville;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only view of a question bank file written by {@link QuestionBankWriter}.
+ *
+ * Opening the file maps it and reads only the section index, so startup cost
+ * does not grow with the number of questions. A section's records are decoded
+ * when its task first needs them, and each question's solution text stays in
+ * the file until it is shown.
+ *
+ * File layout (big-endian, strings are a short byte length then UTF-8 bytes):
+ * <pre>
+ * int   MAGIC ('SVQB')
+ * int   VERSION
+ * int   section count
+ * per section: string name, int item count, long offset of the first record
+ * COMPOUND_SHAPE record: string id, string name, string image, double area,
+ *                        string unit, short dimension count, doubles,
+ *                        long solution offset, int solution byte length
+ * SECTOR_AREA record:    string id, string name, string image, double radius,
+ *                        double angle, string unit, double area,
+ *                        long solution offset, int solution byte length
+ * solution text: UTF-8 bytes, addressed by the records
+ * </pre>
+ */
+public class QuestionBankFile {
+    public static final int MAGIC = 0x53565142; // "SVQB"
+    public static final int VERSION = 1;
+    public static final String DEFAULT_FILE_NAME = "questions.bank";
+
+    // Section names match the task constants used by QuestionManager
+    public static final String SECTION_COMPOUND_SHAPES = "COMPOUND_SHAPE";
+    public static final String SECTION_SECTOR_AREAS = "SECTOR_AREA";
+
+    private final Path file;
+    private final ByteBuffer mapped;
+    private final Map<String, Section> sections;
+
+    private static final class Section {
+        final int count;
+        final long offset;
+
+        Section(int count, long offset) {
+            this.count = count;
+            this.offset = offset;
+        }
+    }
+
+    private QuestionBankFile(Path file, ByteBuffer mapped, Map<String, Section> sections) {
+        this.file = file;
+        this.mapped = mapped;
+        this.sections = sections;
+    }
+
+    /**
+     * Maps a question bank file and reads its section index.
+     *
+     * @throws IOException if the file cannot be read or is not a valid bank.
+     */
+    public static QuestionBankFile open(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a question bank: " + file);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported question bank version " + version + " in " + file);
+            }
+            int count = buffer.getInt();
+            Map<String, Section> sections = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                String name = readString(buffer);
+                int items = buffer.getInt();
+                long offset = buffer.getLong();
+                if (items < 0 || offset < 0 || offset > buffer.capacity()) {
+                    throw new IOException("Corrupt section '" + name + "' in question bank " + file);
+                }
+                sections.put(name, new Section(items, offset));
+            }
+            return new QuestionBankFile(file, buffer, sections);
+        } catch (RuntimeException e) { // BufferUnderflowException etc. on truncated files
+            throw new IOException("Corrupt question bank " + file + ": " + e, e);
+        }
+    }
+
+    public boolean hasSection(String name) {
+        return sections.containsKey(name);
+    }
+
+    /**
+     * @return The number of questions in the section, or 0 if it is missing.
+     */
+    public int getItemCount(String name) {
+        Section section = sections.get(name);
+        return section == null ? 0 : section.count;
+    }
+
+    /**
+     * Decodes the compound shape section. Solution text is read on demand.
+     */
+    public List<CompoundShapeData> readCompoundShapes() throws IOException {
+        ByteBuffer buffer = sectionBuffer(SECTION_COMPOUND_SHAPES);
+        int count = sections.get(SECTION_COMPOUND_SHAPES).count;
+        List<CompoundShapeData> shapes = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                String id = readString(buffer);
+                String name = readString(buffer);
+                String image = readString(buffer);
+                double area = buffer.getDouble();
+                String unit = readString(buffer);
+                double[] dimensions = new double[buffer.getShort() & 0xFFFF];
+                for (int d = 0; d < dimensions.length; d++) {
+                    dimensions[d] = buffer.getDouble();
+                }
+                long textOffset = buffer.getLong();
+                int textLength = buffer.getInt();
+                checkText(textOffset, textLength, id);
+                shapes.add(new CompoundShapeData(id, name, image, area, unit, dimensions,
+                        () -> readText(textOffset, textLength)));
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt compound shape section in " + file + ": " + e, e);
+        }
+        return shapes;
+    }
+
+    /**
+     * Decodes the sector section. Solution text is read on demand.
+     */
+    public List<SectorAreaData> readSectorAreas() throws IOException {
+        ByteBuffer buffer = sectionBuffer(SECTION_SECTOR_AREAS);
+        int count = sections.get(SECTION_SECTOR_AREAS).count;
+        List<SectorAreaData> sectors = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                String id = readString(buffer);
+                String name = readString(buffer);
+                String image = readString(buffer);
+                double radius = buffer.getDouble();
+                double angle = buffer.getDouble();
+                String unit = readString(buffer);
+                double area = buffer.getDouble();
+                long textOffset = buffer.getLong();
+                int textLength = buffer.getInt();
+                checkText(textOffset, textLength, id);
+                sectors.add(new SectorAreaData(id, name, image, radius, angle, unit, area,
+                        () -> readText(textOffset, textLength)));
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt sector section in " + file + ": " + e, e);
+        }
+        return sectors;
+    }
+
+    private ByteBuffer sectionBuffer(String name) throws IOException {
+        Section section = sections.get(name);
+        if (section == null) {
+            throw new IOException("Question bank " + file + " has no " + name + " section");
+        }
+        // duplicate() gives this read its own position, the mapped bytes are shared
+        ByteBuffer view = mapped.duplicate();
+        view.position((int) section.offset);
+        return view;
+    }
+
+    private void checkText(long offset, int length, String id) throws IOException {
+        if (offset < 0 || length < 0 || offset + length > mapped.capacity()) {
+            throw new IOException("Corrupt solution text for '" + id + "' in question bank " + file);
+        }
+    }
+
+    private String readText(long offset, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer view = mapped.duplicate();
+        view.position((int) offset);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,140 @@
+package shapeville;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Build step that writes question data to a {@link QuestionBankFile}.
+ *
+ * Usage: java shapeville.QuestionBankWriter [outputFile]
+ * (default: resources/questions.bank). Without arguments it writes the
+ * built-in compound shape and sector questions from {@link QuestionBank};
+ * larger banks can be produced by calling {@link #write} with other lists.
+ */
+public class QuestionBankWriter {
+
+    public static void main(String[] args) throws IOException {
+        Path output = Paths.get(args.length > 0 ? args[0] : "resources/" + QuestionBankFile.DEFAULT_FILE_NAME);
+        long startNanos = System.nanoTime();
+        List<CompoundShapeData> shapes = QuestionBank.createBuiltInCompoundShapes();
+        List<SectorAreaData> sectors = QuestionBank.createBuiltInSectors();
+        write(output, shapes, sectors);
+        System.out.println("Wrote " + shapes.size() + " compound shapes and " + sectors.size() + " sectors to "
+                + output + " (" + Files.size(output) + " bytes) in "
+                + (System.nanoTime() - startNanos) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Writes both sections and all solution text to the bank file.
+     */
+    public static void write(Path output, List<CompoundShapeData> shapes, List<SectorAreaData> sectors)
+            throws IOException {
+        // Solution text goes after all records, in record order
+        List<byte[]> texts = new ArrayList<>(shapes.size() + sectors.size());
+        for (CompoundShapeData shape : shapes) {
+            texts.add(shape.getSolutionBreakdown().getBytes(StandardCharsets.UTF_8));
+        }
+        for (SectorAreaData sector : sectors) {
+            texts.add(sector.getSolutionFormula().getBytes(StandardCharsets.UTF_8));
+        }
+
+        long headerSize = 12;
+        for (String name : new String[] { QuestionBankFile.SECTION_COMPOUND_SHAPES,
+                QuestionBankFile.SECTION_SECTOR_AREAS }) {
+            headerSize += 2 + name.getBytes(StandardCharsets.UTF_8).length + 4 + 8;
+        }
+
+        // Record sizes do not depend on the text offsets, so encode once to measure
+        // and again with the real position of the text
+        long textStart = headerSize + encodeCompoundShapes(shapes, texts, 0).length
+                + encodeSectors(sectors, texts, shapes.size(), 0).length;
+        byte[] shapeRecords = encodeCompoundShapes(shapes, texts, textStart);
+        byte[] sectorRecords = encodeSectors(sectors, texts, shapes.size(), textStart);
+
+        try (OutputStream fileOut = Files.newOutputStream(output);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut, 1 << 16))) {
+            out.writeInt(QuestionBankFile.MAGIC);
+            out.writeInt(QuestionBankFile.VERSION);
+            out.writeInt(2);
+            writeString(out, QuestionBankFile.SECTION_COMPOUND_SHAPES);
+            out.writeInt(shapes.size());
+            out.writeLong(headerSize);
+            writeString(out, QuestionBankFile.SECTION_SECTOR_AREAS);
+            out.writeInt(sectors.size());
+            out.writeLong(headerSize + shapeRecords.length);
+            out.write(shapeRecords);
+            out.write(sectorRecords);
+            for (byte[] text : texts) {
+                out.write(text);
+            }
+        }
+    }
+
+    private static byte[] encodeCompoundShapes(List<CompoundShapeData> shapes, List<byte[]> texts, long textStart)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        long textOffset = textStart;
+        for (int i = 0; i < shapes.size(); i++) {
+            CompoundShapeData shape = shapes.get(i);
+            writeString(out, shape.getId());
+            writeString(out, shape.getName());
+            writeString(out, shape.getImageName());
+            out.writeDouble(shape.getArea());
+            writeString(out, shape.getUnit());
+            out.writeShort(shape.getDimensionCount());
+            for (int d = 0; d < shape.getDimensionCount(); d++) {
+                out.writeDouble(shape.getDimension(d));
+            }
+            out.writeLong(textOffset);
+            out.writeInt(texts.get(i).length);
+            textOffset += texts.get(i).length;
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static byte[] encodeSectors(List<SectorAreaData> sectors, List<byte[]> texts, int firstText,
+            long textStart) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        long textOffset = textStart;
+        for (int i = 0; i < firstText; i++) {
+            textOffset += texts.get(i).length; // Compound shape text comes first
+        }
+        for (int i = 0; i < sectors.size(); i++) {
+            SectorAreaData sector = sectors.get(i);
+            byte[] text = texts.get(firstText + i);
+            writeString(out, sector.getId());
+            writeString(out, sector.getName());
+            writeString(out, sector.getImageName());
+            out.writeDouble(sector.getRadius());
+            out.writeDouble(sector.getAngle());
+            writeString(out, sector.getUnit());
+            out.writeDouble(sector.getArea());
+            out.writeLong(textOffset);
+            out.writeInt(text.length);
+            textOffset += text.length;
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IOException("String too long for question bank: " + value.substring(0, 40) + "...");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,31 @@
+package shapeville;
+
+/**
+ * How a learner's answer with more decimal places than are graded is rounded
+ * to the graded precision.
+ */
+public enum RoundingPolicy {
+    /** Round to nearest, ties to even (like DecimalFormat and {@link FixedDecimal}). */
+    HALF_EVEN,
+    /** Round to nearest, ties away from zero (as taught in school). */
+    HALF_UP,
+    /** Drop the extra digits. */
+    TRUNCATE;
+
+    /**
+     * @param kept         Magnitude of the digits that are kept.
+     * @param firstDropped The first digit dropped (0-9).
+     * @param moreDropped  true if any later dropped digit is non-zero.
+     * @return true if kept must be increased by one.
+     */
+    boolean roundsUp(long kept, int firstDropped, boolean moreDropped) {
+        switch (this) {
+            case HALF_EVEN:
+                return firstDropped > 5 || (firstDropped == 5 && (moreDropped || (kept & 1) == 1));
+            case HALF_UP:
+                return firstDropped >= 5;
+            default:
+                return false;
+        }
+    }
+}
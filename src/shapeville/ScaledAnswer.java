@@ -0,0 +1,130 @@
+package shapeville;
+
+/**
+ * A numeric answer held exactly as a whole number of units in its last decimal
+ * place, e.g. 78.54 at two digits is 7854 units.
+ *
+ * Correct answers are rounded once when the question is set up and learners'
+ * answers are parsed straight from their text, so checking an answer is a
+ * single integer comparison with no formatting, parsing back or epsilon.
+ */
+public final class ScaledAnswer {
+    private final long units;
+    private final int digits;
+
+    private ScaledAnswer(long units, int digits) {
+        this.units = units;
+        this.digits = digits;
+    }
+
+    public static ScaledAnswer ofUnits(long units, int digits) {
+        FixedDecimal.powerOfTen(digits); // Validates digits
+        return new ScaledAnswer(units, digits);
+    }
+
+    /**
+     * @return value rounded half-even to {@link FixedDecimal#ANSWER_DIGITS}
+     *         decimal places.
+     */
+    public static ScaledAnswer of(double value) {
+        return of(value, FixedDecimal.ANSWER_DIGITS);
+    }
+
+    public static ScaledAnswer of(double value, int digits) {
+        return new ScaledAnswer(FixedDecimal.toUnits(value, digits), digits);
+    }
+
+    public static ScaledAnswer parse(CharSequence text) {
+        return parse(text, FixedDecimal.ANSWER_DIGITS);
+    }
+
+    /**
+     * Parses a learner's answer, rounding half-even to the given number of
+     * decimal places. See {@link NumericParser} for the accepted forms.
+     *
+     * @throws NumberFormatException If the text is not a number.
+     */
+    public static ScaledAnswer parse(CharSequence text, int digits) {
+        long units = NumericParser.parseUnits(text, digits, RoundingPolicy.HALF_EVEN);
+        if (units == NumericParser.INVALID) {
+            throw new NumberFormatException("Not a number: \"" + text + "\"");
+        }
+        return new ScaledAnswer(units, digits);
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public int getDigits() {
+        return digits;
+    }
+
+    /**
+     * @return This answer in units of the given precision, rounded half-even if
+     *         that is coarser.
+     */
+    public long unitsAt(int otherDigits) {
+        if (otherDigits == digits) {
+            return units;
+        }
+        if (otherDigits > digits) {
+            return units * FixedDecimal.powerOfTen(otherDigits - digits);
+        }
+        long divisor = FixedDecimal.powerOfTen(digits - otherDigits);
+        long kept = units / divisor;
+        long dropped = Math.abs(units % divisor) * 2;
+        if (dropped > divisor || (dropped == divisor && (kept & 1) != 0)) {
+            kept += units < 0 ? -1 : 1;
+        }
+        return kept;
+    }
+
+    public double toDouble() {
+        return (double) units / FixedDecimal.powerOfTen(digits);
+    }
+
+    /**
+     * @return true if both answers are the same number.
+     */
+    public boolean matches(ScaledAnswer other) {
+        return matches(other, 0);
+    }
+
+    /**
+     * @return true if the answers differ by at most toleranceUnits units of the
+     *         finer of the two precisions.
+     */
+    public boolean matches(ScaledAnswer other, long toleranceUnits) {
+        if (digits == other.digits) {
+            return Math.abs(units - other.units) <= toleranceUnits;
+        }
+        ScaledAnswer coarse = digits < other.digits ? this : other;
+        ScaledAnswer fine = coarse == this ? other : this;
+        long aligned = coarse.units * FixedDecimal.powerOfTen(fine.digits - coarse.digits);
+        return Math.abs(aligned - fine.units) <= toleranceUnits;
+    }
+
+    public StringBuilder appendTo(StringBuilder sb) {
+        return FixedDecimal.appendUnits(sb, units, digits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof ScaledAnswer)) {
+            return false;
+        }
+        ScaledAnswer other = (ScaledAnswer) o;
+        return units == other.units && digits == other.digits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(units) * 31 + digits;
+    }
+
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder(24)).toString();
+    }
+}
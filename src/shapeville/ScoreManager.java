@@ -4,12 +4,21 @@ public class ScoreManager {
     private int totalScore;
     private int currentQuestionAttempts; // Attempts for the current question
     public static final int MAX_ATTEMPTS_PER_QUESTION = 3;
-    private SoundManager soundManager; // 添加 SoundManager 实例
+    // Sound, the home screen etc. subscribe here; scoring itself never waits on them
+    private final LearningEventBus eventBus;
 
     public ScoreManager() {
+        this(new LearningEventBus());
+    }
+
+    public ScoreManager(LearningEventBus eventBus) {
         this.totalScore = 0;
         this.currentQuestionAttempts = 0;
-        this.soundManager = new SoundManager(); // 初始化 SoundManager
+        this.eventBus = eventBus;
+    }
+
+    public LearningEventBus getEventBus() {
+        return eventBus;
     }
 
     /**
@@ -26,6 +35,15 @@ public class ScoreManager {
         if (this.currentQuestionAttempts < MAX_ATTEMPTS_PER_QUESTION) {
             this.currentQuestionAttempts++;
         }
+        eventBus.publish(LearningEvent.attemptRecorded(currentQuestionAttempts, totalScore));
+    }
+
+    /**
+     * Reports that the learner has finished with the current question, whether
+     * it was answered correctly or the attempts ran out.
+     */
+    public void recordQuestionCompleted() {
+        eventBus.publish(LearningEvent.questionCompleted(currentQuestionAttempts, totalScore));
     }
 
     /**
@@ -79,21 +97,15 @@ public class ScoreManager {
 
     /**
      * Awards points calculated based on current attempts and adds to total score.
+     * Subscribers (e.g. sound) are notified asynchronously through the event bus.
      * 
      * @param isAdvancedScoring true if advanced scoring applies.
      * @return The points awarded.
      */
-
     public int awardCalculatedPoints(boolean isAdvancedScoring) {
         int points = calculatePointsForCurrentAttempt(isAdvancedScoring);
-        if (points > 0) {
-            SoundManager soundManager = new SoundManager();
-            soundManager.playSound("correct");
-        } else if (points == 0) {
-            SoundManager soundManager = new SoundManager();
-            soundManager.playSound("wrong");
-        }
         this.totalScore += points;
+        eventBus.publish(LearningEvent.pointsAwarded(points, currentQuestionAttempts, totalScore));
         return points;
     }
 
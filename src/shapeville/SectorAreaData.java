@@ -0,0 +1,96 @@
+package shapeville;
+
+import java.util.function.Supplier;
+
+/**
+ * Immutable data for one sector area question (Bonus 2). The worked formula
+ * is built lazily like {@link CompoundShapeData}'s solution.
+ */
+public final class SectorAreaData {
+    private final String id; // Unique identifier (e.g., "SA_Fig13_1")
+    private final String name; // Display name, also shown in the selector
+    private final String imageName; // Filename of the image (e.g., "sector1.png")
+    private final double radius; // In unit
+    private final double angle; // Central angle in degrees
+    private final String unit; // Length unit of the radius (e.g., "cm", "ft")
+    private final double area; // Correct area, rounded to two decimal places (π = 3.14)
+    private final ScaledAnswer answer; // The area as graded, to two decimal places
+    private final Supplier<String> solutionFormulaSource; // Worked formula, built when first shown
+    private volatile String solutionFormula;
+
+    public SectorAreaData(String id, String name, String imageName, double radius, double angle, String unit,
+            double area, String solutionFormula) {
+        this(id, name, imageName, radius, angle, unit, area, () -> solutionFormula);
+    }
+
+    /**
+     * @param solutionSource Produces the solution text the first time it is
+     *                       requested (e.g. read from the question bank file).
+     */
+    public SectorAreaData(String id, String name, String imageName, double radius, double angle, String unit,
+            double area, Supplier<String> solutionSource) {
+        this.id = id;
+        this.name = name;
+        this.imageName = imageName;
+        this.radius = radius;
+        this.angle = angle;
+        this.unit = unit;
+        this.area = area;
+        this.answer = ScaledAnswer.of(area);
+        this.solutionFormulaSource = solutionSource;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getImageName() {
+        return imageName;
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+
+    public double getAngle() {
+        return angle;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public double getArea() {
+        return area;
+    }
+
+    public ScaledAnswer getAnswer() {
+        return answer;
+    }
+
+    public String getSolutionFormula() {
+        String text = solutionFormula;
+        if (text == null) {
+            text = solutionFormulaSource.get(); // Built when the solution is first shown
+            solutionFormula = text;
+        }
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return "SectorAreaData{" +
+                "id='" + id + '\'' +
+                ", name='" + name + '\'' +
+                ", imageName='" + imageName + '\'' +
+                ", radius=" + radius +
+                ", angle=" + angle +
+                ", unit='" + unit + '\'' +
+                ", area=" + area +
+                '}';
+    }
+}
@@ -0,0 +1,260 @@
+package shapeville;
+
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.SplittableRandom;
+
+/**
+ * One learner's state while working through the shared {@link QuestionBank}:
+ * for each task, the shuffled order of its items, how far along it they are
+ * and which items they have done.
+ *
+ * A session holds no question content, only small int arrays and bitsets over
+ * item ordinals, so thousands of sessions can share one bank. A session is
+ * used by one learner at a time and is not thread-safe.
+ *
+ * All randomness comes from a single recorded seed. Each task gets its own
+ * stream split from it, so a task's questions depend only on the seed and on
+ * what the learner did in that task, not on the other tasks or on other
+ * sessions. Creating a session with the same seed replays it exactly.
+ */
+public class Session {
+    private final long seed;
+
+    // Task 1: Shape Identification
+    private final Progress shapes2D;
+    private final Progress shapes3D;
+
+    // Task 2: Angle Identification
+    private final SplittableRandom angleRandom;
+    private final AngleType[] angleTypeOrder = AngleType.values(); // Shuffled; the order targets are asked in
+    private final EnumSet<AngleType> angleTypesToIdentify = EnumSet.noneOf(AngleType.class); // The 4 targeted
+    private final EnumSet<AngleType> identifiedAngleTypes = EnumSet.noneOf(AngleType.class);
+
+    // Tasks 3 and 4, Bonus 1 and 2
+    private final Progress basicAreaShapes;
+    private final Progress circleCalcs;
+    private final Progress compoundShapes;
+    private final Progress sectors;
+
+    /**
+     * Progress through one task's items. The order is a permutation of the item
+     * ordinals, shuffled on first use after each reset.
+     */
+    public static final class Progress {
+        private static final int[] EMPTY = new int[0];
+
+        private final SplittableRandom random; // This task's stream
+        private int[] order = EMPTY;
+        private boolean shuffled;
+        private int cursor;
+        private final BitSet done = new BitSet();
+
+        Progress(SplittableRandom random) {
+            this.random = random;
+        }
+
+        /**
+         * Starts the task over. The new order is shuffled when next used, so
+         * resetting a task whose items are not loaded yet does not load them.
+         */
+        void reset() {
+            shuffled = false;
+        }
+
+        /**
+         * Makes sure the order covers all items, shuffling it if the task was
+         * reset since it was last used.
+         */
+        Progress ensure(int itemCount) {
+            if (shuffled && order.length == itemCount) {
+                return this;
+            }
+            if (order.length != itemCount) {
+                order = new int[itemCount];
+                for (int i = 0; i < itemCount; i++) {
+                    order[i] = i;
+                }
+            }
+            // Fisher-Yates; any permutation is a valid starting point
+            for (int i = itemCount - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = order[i];
+                order[i] = order[j];
+                order[j] = tmp;
+            }
+            cursor = 0;
+            done.clear();
+            shuffled = true;
+            return this;
+        }
+
+        /**
+         * @return The ordinal of the current item, or -1 when the order is used up.
+         */
+        public int getCurrentOrdinal() {
+            return cursor < order.length ? order[cursor] : -1;
+        }
+
+        /**
+         * Marks an item done (ignored if negative) and moves to the next one.
+         */
+        void advance(int doneOrdinal) {
+            if (doneOrdinal >= 0) {
+                done.set(doneOrdinal);
+            }
+            cursor++;
+        }
+
+        public int getCursor() {
+            return cursor;
+        }
+
+        public int getDoneCount() {
+            return done.cardinality();
+        }
+
+        public boolean isDone(int ordinal) {
+            return done.get(ordinal);
+        }
+
+        public int size() {
+            return order.length;
+        }
+    }
+
+    /**
+     * Creates a session with the seed given by -Dshapeville.seed, or a fresh
+     * random seed.
+     */
+    public Session() {
+        this(defaultSeed());
+    }
+
+    public Session(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        // Split in a fixed order so every task's stream depends only on the seed
+        shapes2D = new Progress(root.split());
+        shapes3D = new Progress(root.split());
+        angleRandom = root.split();
+        basicAreaShapes = new Progress(root.split());
+        circleCalcs = new Progress(root.split());
+        compoundShapes = new Progress(root.split());
+        sectors = new Progress(root.split());
+        resetAll();
+    }
+
+    private static long defaultSeed() {
+        Long configured = Long.getLong("shapeville.seed");
+        return configured != null ? configured : new SplittableRandom().nextLong();
+    }
+
+    /**
+     * @return The seed this session was created with; pass it to
+     *         {@link #Session(long)} (or -Dshapeville.seed) to replay the session.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return The random stream of a task (e.g. "AREA_CALC"), used both to
+     *         shuffle its items and to generate its questions.
+     */
+    public SplittableRandom getRandom(String taskTypeConstant) {
+        if ("ANGLE_ID".equals(taskTypeConstant)) {
+            return angleRandom;
+        }
+        Progress progress = getProgress(taskTypeConstant);
+        if (progress == null) {
+            throw new IllegalArgumentException("Unknown task: " + taskTypeConstant);
+        }
+        return progress.random;
+    }
+
+    /**
+     * Starts every task over.
+     */
+    public void resetAll() {
+        for (String task : new String[] { "SHAPE_ID_2D", "SHAPE_ID_3D", "ANGLE_ID", "AREA_CALC", "CIRCLE_CALC",
+                "COMPOUND_SHAPE", "SECTOR_AREA" }) {
+            reset(task);
+        }
+    }
+
+    /**
+     * Starts one task over.
+     *
+     * @param taskTypeConstant The task's panel name, e.g. "SHAPE_ID_2D".
+     */
+    public void reset(String taskTypeConstant) {
+        if ("ANGLE_ID".equals(taskTypeConstant)) {
+            resetAngleTargets();
+            return;
+        }
+        Progress progress = getProgress(taskTypeConstant);
+        if (progress != null) {
+            progress.reset();
+        }
+    }
+
+    /**
+     * @return The progress of an item-based task, or null for angle
+     *         identification and unknown tasks.
+     */
+    public Progress getProgress(String taskTypeConstant) {
+        switch (taskTypeConstant) {
+            case "SHAPE_ID_2D":
+                return shapes2D;
+            case "SHAPE_ID_3D":
+                return shapes3D;
+            case "AREA_CALC":
+                return basicAreaShapes;
+            case "CIRCLE_CALC":
+                return circleCalcs;
+            case "COMPOUND_SHAPE":
+                return compoundShapes;
+            case "SECTOR_AREA":
+                return sectors;
+            default:
+                return null;
+        }
+    }
+
+    private void resetAngleTargets() {
+        // Select 4 distinct types for the session
+        for (int i = angleTypeOrder.length - 1; i > 0; i--) {
+            int j = angleRandom.nextInt(i + 1);
+            AngleType tmp = angleTypeOrder[i];
+            angleTypeOrder[i] = angleTypeOrder[j];
+            angleTypeOrder[j] = tmp;
+        }
+        angleTypesToIdentify.clear();
+        for (int i = 0; i < Math.min(4, angleTypeOrder.length); i++) {
+            angleTypesToIdentify.add(angleTypeOrder[i]);
+        }
+        identifiedAngleTypes.clear();
+    }
+
+    /** Gets the next angle type the learner needs to identify correctly. */
+    public AngleType getTargetAngleType() {
+        for (AngleType type : angleTypeOrder) {
+            if (angleTypesToIdentify.contains(type) && !identifiedAngleTypes.contains(type)) {
+                return type;
+            }
+        }
+        return null; // All targeted types identified
+    }
+
+    public void recordAngleTypeIdentified(AngleType type) {
+        if (type != null && angleTypesToIdentify.contains(type)) {
+            identifiedAngleTypes.add(type);
+        }
+    }
+
+    public boolean allAngleTypesIdentified() {
+        // All 4 (or fewer if less than 4 types exist) distinct types identified
+        return identifiedAngleTypes.containsAll(angleTypesToIdentify);
+    }
+}
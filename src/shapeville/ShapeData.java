@@ -1,5 +1,9 @@
 package shapeville;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Represents data for a single shape used in identification tasks.
  */
@@ -8,18 +12,24 @@ public class ShapeData {
     private String imageName; // Filename of the image (e.g., "circle.png")
     private boolean is3D; // True if it's a 3D shape, false for 2D
     private String id; // Optional unique identifier
+    private List<String> synonyms; // Other accepted names (e.g., "rectangular prism" for "cuboid")
 
     public ShapeData(String id, String name, String imageName, boolean is3D) {
+        this(id, name, imageName, is3D, new String[0]);
+    }
+
+    public ShapeData(String id, String name, String imageName, boolean is3D, String... synonyms) {
         this.id = (id == null || id.trim().isEmpty()) ? name.replaceAll("\\s+", "_").toLowerCase() : id; // Auto-generate
                                                                                                          // ID if null
         this.name = name.toLowerCase().trim(); // Store lowercase for easier comparison
         this.imageName = imageName;
         this.is3D = is3D;
+        this.synonyms = Collections.unmodifiableList(Arrays.asList(synonyms.clone()));
     }
 
     // Constructor without explicit ID
-    public ShapeData(String name, String imageName, boolean is3D) {
-        this(null, name, imageName, is3D);
+    public ShapeData(String name, String imageName, boolean is3D, String... synonyms) {
+        this(null, name, imageName, is3D, synonyms);
     }
 
     public String getId() {
@@ -38,6 +48,10 @@ public class ShapeData {
         return is3D;
     }
 
+    public List<String> getSynonyms() {
+        return synonyms;
+    }
+
     @Override
     public String toString() {
         return "ShapeData{" +
@@ -45,6 +59,7 @@ public class ShapeData {
                 ", name='" + name + '\'' +
                 ", imageName='" + imageName + '\'' +
                 ", is3D=" + is3D +
+                ", synonyms=" + synonyms +
                 '}';
     }
 }
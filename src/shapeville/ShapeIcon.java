@@ -0,0 +1,66 @@
+package shapeville;
+
+import javax.swing.Icon;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+
+/**
+ * Icon that paints a unit-box {@link Shape} (see {@link ShapeRenderer}) filled
+ * and outlined at any size. Nothing is rasterised ahead of time.
+ */
+public class ShapeIcon implements Icon {
+    private static final float OUTLINE_WIDTH = 3f;
+
+    private final Shape unitShape;
+    private final Color fillColor;
+    private final int width;
+    private final int height;
+
+    public ShapeIcon(Shape unitShape, Color fillColor, int width, int height) {
+        this.unitShape = unitShape;
+        this.fillColor = fillColor;
+        this.width = Math.max(1, width);
+        this.height = Math.max(1, height);
+    }
+
+    @Override
+    public void paintIcon(Component c, Graphics g, int x, int y) {
+        Graphics2D g2d = (Graphics2D) g.create();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+
+            // Fit the unit box into the icon, keeping the outline inside the bounds
+            double inset = OUTLINE_WIDTH;
+            double size = Math.min(width, height) - 2 * inset;
+            AffineTransform transform = new AffineTransform();
+            transform.translate(x + (width - size) / 2.0, y + (height - size) / 2.0);
+            transform.scale(size, size);
+            Shape shape = transform.createTransformedShape(unitShape);
+
+            g2d.setColor(fillColor);
+            g2d.fill(shape);
+            g2d.setColor(UIConstants.SHAPE_OUTLINE_COLOR);
+            g2d.setStroke(new BasicStroke(OUTLINE_WIDTH, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.draw(shape);
+        } finally {
+            g2d.dispose();
+        }
+    }
+
+    @Override
+    public int getIconWidth() {
+        return width;
+    }
+
+    @Override
+    public int getIconHeight() {
+        return height;
+    }
+}
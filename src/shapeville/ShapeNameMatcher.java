@@ -0,0 +1,167 @@
+package shapeville;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks typed shape names against the expected shape, accepting its synonyms
+ * and small typos.
+ *
+ * Every name and synonym is normalised (case, spacing, hyphens and, for
+ * non-ASCII text, Unicode compatibility forms such as full-width letters) and
+ * put in one hash index, so an exact answer is a single lookup whatever the
+ * number of shapes or synonym languages. Typos are only forgiven against the
+ * expected shape's own names, with an edit distance bound that grows with the
+ * name's length, and never when the answer is another shape's name.
+ */
+public final class ShapeNameMatcher {
+    /** How a typed name relates to the expected shape. */
+    public enum Result {
+        /** The name or one of its synonyms. */
+        MATCH,
+        /** Close enough to the name or a synonym to count as a spelling slip. */
+        CLOSE_MATCH,
+        WRONG
+    }
+
+    private final Map<String, ShapeData> shapesByName = new HashMap<>();
+    private final Map<ShapeData, String[]> namesByShape = new HashMap<>(); // Normalised name first
+
+    public ShapeNameMatcher(List<ShapeData> shapes) {
+        for (ShapeData shape : shapes) {
+            List<String> synonyms = shape.getSynonyms();
+            String[] names = new String[synonyms.size() + 1];
+            names[0] = normalize(shape.getName());
+            for (int i = 0; i < synonyms.size(); i++) {
+                names[i + 1] = normalize(synonyms.get(i));
+            }
+            for (String name : names) {
+                ShapeData previous = shapesByName.putIfAbsent(name, shape);
+                if (previous != null && previous != shape) {
+                    System.err.println("Warning: \"" + name + "\" names both " + previous.getId() + " and "
+                            + shape.getId() + "; keeping " + previous.getId());
+                }
+            }
+            namesByShape.put(shape, names);
+        }
+    }
+
+    /**
+     * @return The shape the text names exactly (after normalising), or null.
+     */
+    public ShapeData lookup(CharSequence text) {
+        return shapesByName.get(normalize(text));
+    }
+
+    public Result match(CharSequence answer, ShapeData expected) {
+        String normalized = normalize(answer);
+        if (normalized.isEmpty()) {
+            return Result.WRONG;
+        }
+        ShapeData named = shapesByName.get(normalized);
+        if (named != null) {
+            return named == expected ? Result.MATCH : Result.WRONG;
+        }
+        String[] names = namesByShape.get(expected);
+        if (names == null) {
+            return Result.WRONG;
+        }
+        for (String name : names) {
+            int bound = maxTypos(name.length());
+            if (bound > 0 && withinDistance(normalized, name, bound)) {
+                return Result.CLOSE_MATCH;
+            }
+        }
+        return Result.WRONG;
+    }
+
+    /**
+     * Lower-cases and collapses runs of spaces, hyphens and underscores into a
+     * single space, so "Square-Based  Pyramid" and "square based pyramid" are
+     * the same key.
+     */
+    static String normalize(CharSequence text) {
+        String source = text.toString();
+        for (int i = 0; i < source.length(); i++) {
+            if (source.charAt(i) > 0x7F) {
+                source = Normalizer.normalize(source, Normalizer.Form.NFKC); // e.g. full-width ｃｕｂｅ
+                break;
+            }
+        }
+        StringBuilder sb = new StringBuilder(source.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c) || c == '-' || c == '_') {
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    private static int maxTypos(int nameLength) {
+        if (nameLength < 5) {
+            return 0; // "cube" and "cone" are one typo apart too often
+        }
+        return nameLength < 9 ? 1 : 2;
+    }
+
+    /**
+     * Edit distance check (insertions, deletions, substitutions and swapped
+     * neighbours, so "cubiod" is one typo from "cuboid"). Only the diagonal band
+     * of width 2 * bound + 1 is filled, and it stops as soon as a row exceeds
+     * the bound.
+     */
+    static boolean withinDistance(String a, String b, int bound) {
+        int n = a.length();
+        int m = b.length();
+        if (Math.abs(n - m) > bound) {
+            return false;
+        }
+        int big = bound + 1;
+        int[] beforePrevious = new int[m + 1];
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j <= bound ? j : big;
+        }
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - bound);
+            int to = Math.min(m, i + bound);
+            current[0] = i <= bound ? i : big;
+            if (from > 1) {
+                current[from - 1] = big;
+            }
+            int rowMin = current[0];
+            char ca = a.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && ca == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, beforePrevious[j - 2] + 1); // Swapped neighbours
+                }
+                current[j] = Math.min(value, big);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < m) {
+                current[to + 1] = big;
+            }
+            if (rowMin > bound) {
+                return false;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[m] <= bound;
+    }
+}
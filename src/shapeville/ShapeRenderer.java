@@ -0,0 +1,130 @@
+package shapeville;
+
+import java.awt.Color;
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Draws the 2D shapes from geometric definitions instead of PNGs, so they scale
+ * crisply to any size and need no decoded bitmap in memory.
+ *
+ * Every definition lives in a unit box (0,0)-(1,1); {@link ShapeIcon} scales it
+ * to the requested size when painting. Shapes without a definition (all the 3D
+ * shapes) keep using their images.
+ *
+ * Vector rendering can be turned off with -Dshapeville.vectorShapes=false.
+ */
+public final class ShapeRenderer {
+    private static final boolean ENABLED = Boolean
+            .parseBoolean(System.getProperty("shapeville.vectorShapes", "true"));
+
+    private static final Map<String, Shape> SHAPES = new HashMap<>();
+    private static final Map<String, Color> FILLS = new HashMap<>();
+
+    static {
+        define("circle", new Ellipse2D.Double(0, 0, 1, 1), UIConstants.SHAPE_FILL_COLOR_ACCESSIBLE_1);
+        define("oval", new Ellipse2D.Double(0, 0.2, 1, 0.6), UIConstants.SHAPE_FILL_COLOR_ACCESSIBLE_2);
+        define("square", new Rectangle2D.Double(0, 0, 1, 1), UIConstants.SHAPE_FILL_COLOR_ACCESSIBLE_3);
+        define("rectangle", new Rectangle2D.Double(0, 0.2, 1, 0.6), UIConstants.SHAPE_FILL_COLOR_ACCESSIBLE_1);
+        define("triangle", polygon(0.5, 0, 1, 1, 0, 1), UIConstants.SHAPE_FILL_COLOR_ACCESSIBLE_2);
+        define("rhombus", polygon(0.5, 0, 0.85, 0.5, 0.5, 1, 0.15, 0.5), UIConstants.SHAPE_FILL_COLOR_ACCESSIBLE_3);
+        define("kite", polygon(0.5, 0, 0.85, 0.3, 0.5, 1, 0.15, 0.3), UIConstants.SHAPE_FILL_COLOR_ACCESSIBLE_1);
+        define("pentagon", regularPolygon(5), UIConstants.SHAPE_FILL_COLOR_ACCESSIBLE_2);
+        define("hexagon", regularPolygon(6), UIConstants.SHAPE_FILL_COLOR_ACCESSIBLE_3);
+        define("heptagon", regularPolygon(7), UIConstants.SHAPE_FILL_COLOR_ACCESSIBLE_1);
+        define("octagon", regularPolygon(8), UIConstants.SHAPE_FILL_COLOR_ACCESSIBLE_2);
+    }
+
+    private ShapeRenderer() {
+    }
+
+    private static void define(String name, Shape shape, Color fill) {
+        SHAPES.put(name, shape);
+        FILLS.put(name, fill);
+    }
+
+    /**
+     * @return true if the named shape (e.g. "hexagon") is drawn as vectors.
+     */
+    public static boolean canRender(String shapeName) {
+        return ENABLED && shapeName != null && SHAPES.containsKey(shapeName.toLowerCase().trim());
+    }
+
+    /**
+     * @return true if the image file (e.g. "hexagon.png") is replaced by a vector
+     *         shape, so it never needs to be decoded.
+     */
+    public static boolean replacesImage(String imageName) {
+        if (imageName == null || !imageName.toLowerCase().endsWith(".png")) {
+            return false;
+        }
+        return canRender(imageName.substring(0, imageName.length() - 4));
+    }
+
+    public static Set<String> getShapeNames() {
+        return Collections.unmodifiableSet(SHAPES.keySet());
+    }
+
+    /**
+     * Creates an icon that draws the named shape to fit in the given size.
+     *
+     * @return The icon, or null if the shape has no vector definition.
+     */
+    public static ShapeIcon createIcon(String shapeName, int width, int height) {
+        if (!canRender(shapeName)) {
+            return null;
+        }
+        String key = shapeName.toLowerCase().trim();
+        return new ShapeIcon(SHAPES.get(key), FILLS.get(key), width, height);
+    }
+
+    /**
+     * Builds a polygon from (x, y) pairs in the unit box.
+     */
+    static Shape polygon(double... xy) {
+        Path2D.Double path = new Path2D.Double();
+        path.moveTo(xy[0], xy[1]);
+        for (int i = 2; i < xy.length; i += 2) {
+            path.lineTo(xy[i], xy[i + 1]);
+        }
+        path.closePath();
+        return path;
+    }
+
+    /**
+     * Builds a regular n-gon fitted to the unit box. Odd-sided polygons point up,
+     * even-sided ones rest on a flat edge, like the images they replace.
+     */
+    static Shape regularPolygon(int sides) {
+        double[] xs = new double[sides];
+        double[] ys = new double[sides];
+        double minX = Double.MAX_VALUE, maxX = -Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        double start = -Math.PI / 2 + (sides % 2 == 0 ? Math.PI / sides : 0);
+        for (int i = 0; i < sides; i++) {
+            double angle = start + 2 * Math.PI * i / sides;
+            xs[i] = Math.cos(angle);
+            ys[i] = Math.sin(angle);
+            minX = Math.min(minX, xs[i]);
+            maxX = Math.max(maxX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+        // One scale for both axes so the polygon stays regular, then centre it
+        double scale = 1.0 / Math.max(maxX - minX, maxY - minY);
+        double offsetX = (1.0 - (maxX - minX) * scale) / 2;
+        double offsetY = (1.0 - (maxY - minY) * scale) / 2;
+        double[] xy = new double[sides * 2];
+        for (int i = 0; i < sides; i++) {
+            xy[2 * i] = (xs[i] - minX) * scale + offsetX;
+            xy[2 * i + 1] = (ys[i] - minY) * scale + offsetY;
+        }
+        return polygon(xy);
+    }
+}
@@ -5,6 +5,12 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 public class ShapevilleApp extends JFrame {
     private CardLayout cardLayout;
@@ -13,14 +19,9 @@ public class ShapevilleApp extends JFrame {
     private ScoreManager scoreManager;
     private QuestionManager questionManager;
 
-    // Task Panels
-    private ShapeIdentificationPanel shapeIdPanel2D;
-    private ShapeIdentificationPanel shapeIdPanel3D;
-    private AngleIdentificationPanel angleIdPanel;
-    private AreaCalculationPanel areaCalcPanel;
-    private CircleCalculationPanel circleCalcPanel;
-    private CompoundShapePanel compoundShapePanel;
-    private SectorAreaPanel sectorAreaPanel;
+    // Task panels are built on first use from these factories, keyed by card name
+    private final Map<String, Supplier<TaskPanel>> panelFactories = new LinkedHashMap<>();
+    private final Map<String, TaskPanel> taskPanels = new HashMap<>();
 
     public ShapevilleApp() {
         setTitle("Shapeville - Geometry Fun!");
@@ -30,7 +31,11 @@ public class ShapevilleApp extends JFrame {
 
        
         scoreManager = new ScoreManager();
+        scoreManager.getEventBus().subscribe(new SoundManager()); // Answer sounds
         questionManager = new QuestionManager(); // 初始化问题数据管理器
+        // Re-run with this seed to get the same questions in the same order
+        System.out.println("Question seed: " + questionManager.getSession().getSeed()
+                + " (replay with -Dshapeville.seed=" + questionManager.getSession().getSeed() + ")");
 
         cardLayout = new CardLayout();
         mainPanel = new JPanel(cardLayout);
@@ -39,27 +44,14 @@ public class ShapevilleApp extends JFrame {
         homeScreenPanel = new HomeScreenPanel(this, scoreManager);
         mainPanel.add(homeScreenPanel, "HOME");
 
-        // Initialize other panels and add to cardLayout
-        shapeIdPanel2D = new ShapeIdentificationPanel(this, scoreManager, questionManager, false); // false for 2D
-        mainPanel.add(shapeIdPanel2D, "SHAPE_ID_2D");
-
-        shapeIdPanel3D = new ShapeIdentificationPanel(this, scoreManager, questionManager, true); // true for 3D
-        mainPanel.add(shapeIdPanel3D, "SHAPE_ID_3D");
-
-        angleIdPanel = new AngleIdentificationPanel(this, scoreManager, questionManager);
-        mainPanel.add(angleIdPanel, "ANGLE_ID");
-
-        areaCalcPanel = new AreaCalculationPanel(this, scoreManager, questionManager);
-        mainPanel.add(areaCalcPanel, "AREA_CALC");
-
-        circleCalcPanel = new CircleCalculationPanel(this, scoreManager, questionManager);
-        mainPanel.add(circleCalcPanel, "CIRCLE_CALC");
-
-        compoundShapePanel = new CompoundShapePanel(this, scoreManager, questionManager);
-        mainPanel.add(compoundShapePanel, "COMPOUND_SHAPE");
-
-        sectorAreaPanel = new SectorAreaPanel(this, scoreManager, questionManager);
-        mainPanel.add(sectorAreaPanel, "SECTOR_AREA");
+        // Register the task panels; each is created the first time it is shown
+        registerPanel("SHAPE_ID_2D", () -> new ShapeIdentificationPanel(this, scoreManager, questionManager, false)); // false for 2D
+        registerPanel("SHAPE_ID_3D", () -> new ShapeIdentificationPanel(this, scoreManager, questionManager, true)); // true for 3D
+        registerPanel("ANGLE_ID", () -> new AngleIdentificationPanel(this, scoreManager, questionManager));
+        registerPanel("AREA_CALC", () -> new AreaCalculationPanel(this, scoreManager, questionManager));
+        registerPanel("CIRCLE_CALC", () -> new CircleCalculationPanel(this, scoreManager, questionManager));
+        registerPanel("COMPOUND_SHAPE", () -> new CompoundShapePanel(this, scoreManager, questionManager));
+        registerPanel("SECTOR_AREA", () -> new SectorAreaPanel(this, scoreManager, questionManager));
 
         add(mainPanel);
         showPanel("HOME"); // Start with home screen
@@ -70,35 +62,63 @@ public class ShapevilleApp extends JFrame {
     }
 
     public void showPanel(String panelName) {
-        cardLayout.show(mainPanel, panelName);
-        // If the panel is a TaskPanel, call its startTask() or reset method
-        Component currentComponent = null;
         for (Component comp : mainPanel.getComponents()) {
-            if (comp.isVisible() && comp instanceof JPanel) { // 确保是JPanel且可见
-                // CardLayout的直接子组件通常就是我们要找的
-                // 如果有更深的嵌套，这个逻辑可能需要调整
-                if (((JPanel) comp).getLayout() instanceof CardLayout) {
-                    // This is the mainPanel itself, iterate its children
-                    for (Component innerComp : ((JPanel) comp).getComponents()) {
-                        if (innerComp.isVisible()) {
-                            currentComponent = innerComp;
-                            break;
-                        }
-                    }
-                } else {
-                    currentComponent = comp; // This should be the active panel
-                }
-                break;
+            if (comp.isVisible() && comp instanceof TaskPanel) {
+                ((TaskPanel) comp).onLeaveTask(); // Stop its countdown and pending transitions
             }
         }
-
-        if (currentComponent instanceof TaskPanel) {
-            ((TaskPanel) currentComponent).startTask();
+        TaskPanel taskPanel = getOrCreatePanel(panelName); // null for HOME
+        cardLayout.show(mainPanel, panelName);
+        if (taskPanel != null) {
+            taskPanel.startTask();
         } else if (panelName.equals("HOME") && homeScreenPanel != null) {
             homeScreenPanel.updateProgress(); // Update progress bar on returning home
         }
     }
 
+    /**
+     * Adds a task panel under the given card name without creating it yet.
+     */
+    public void registerPanel(String panelName, Supplier<TaskPanel> factory) {
+        panelFactories.put(panelName, factory);
+    }
+
+    /**
+     * @return The task panel for the card name, created and added to the card
+     *         layout on first use, or null if no task panel has that name.
+     */
+    private TaskPanel getOrCreatePanel(String panelName) {
+        TaskPanel panel = taskPanels.get(panelName);
+        if (panel == null) {
+            Supplier<TaskPanel> factory = panelFactories.get(panelName);
+            if (factory == null) {
+                return null;
+            }
+            panel = factory.get();
+            mainPanel.add(panel, panelName);
+            taskPanels.put(panelName, panel);
+        }
+        return panel;
+    }
+
+    /**
+     * Creates the task panels not shown yet, one per EDT event so the home
+     * screen stays responsive in between. Call once the window is visible.
+     */
+    public void warmPanels() {
+        Iterator<String> remaining = new ArrayList<>(panelFactories.keySet()).iterator();
+        Runnable warmNext = new Runnable() {
+            @Override
+            public void run() {
+                if (remaining.hasNext()) {
+                    getOrCreatePanel(remaining.next()); // No-op if the learner opened it already
+                    SwingUtilities.invokeLater(this);
+                }
+            }
+        };
+        SwingUtilities.invokeLater(warmNext);
+    }
+
     public void endSession() {
         JOptionPane.showMessageDialog(this,
                 "You have achieved " + scoreManager.getTotalScore() + " points in this session. Goodbye!",
@@ -113,11 +133,19 @@ public class ShapevilleApp extends JFrame {
         } catch (Exception e) {
             System.err.println("Couldn't set system look and feel.");
         }
+        EdtWatchdog.startIfEnabled(); // Logs Swing thread freezes when run with -Dshapeville.edtWatchdog=true
 
         SwingUtilities.invokeLater(() -> {
             ShapevilleApp app = new ShapevilleApp();
             app.setVisible(true);
+            if (Boolean.parseBoolean(System.getProperty("shapeville.warmPanels", "true"))) {
+                app.warmPanels(); // Build the task panels after the first frame instead of before it
+            }
+            // Decode the task images in the background while the home screen is shown
+            ImageLoader.startPreload();
         });
+        // Decode the feedback sounds on the main thread while the EDT builds the UI
+        SoundManager.preload("correct", "wrong");
 
     }
 
@@ -1,52 +1,259 @@
 package shapeville;
 
 import javax.sound.sampled.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
 
-public class SoundManager {
-    
+public class SoundManager implements LearningEventListener {
+    // Open clips kept per sound, so a quick second answer can overlap the first
+    private static final int CLIPS_PER_SOUND = 2;
+
+    // Decoded once and shared by every SoundManager instance
+    private static final Map<String, LoadedSound> loadedSounds = new HashMap<>();
+
+    // One audio thread and line for all sounds; null until first use, and stays
+    // null if the line cannot be opened (then the clip pool is used instead)
+    private static AudioMixer mixer;
+    private static boolean mixerStarted;
+
+    /**
+     * The PCM data of one sound: converted to the mixer's format when possible,
+     * otherwise played through a small pool of open clips.
+     */
+    private static final class LoadedSound {
+        final short[] mixSamples; // Null if the mixer is unavailable for this sound
+        final Clip[] clips; // Empty when the mixer plays this sound
+        int nextClip; // Round-robin fallback when all clips are busy
+
+        LoadedSound(short[] mixSamples, Clip[] clips) {
+            this.mixSamples = mixSamples;
+            this.clips = clips;
+        }
+    }
+
+    /**
+     * Plays a sound by name ("correct", "wrong"). The first call for a sound
+     * decodes it; later calls just hand the samples to the mixer thread (or
+     * rewind an idle clip), without creating threads or touching the file again.
+     */
     public void playSound(String soundType) {
-        new Thread(() -> {
-            try {
-                // 从资源文件夹加载音频
-                URL soundUrl = getClass().getResource("/sounds/" + soundType + ".wav");
-                if (soundUrl == null) {
-                    System.out.println("找不到音效文件: " + soundType);
-                    return;
+        LoadedSound sound = getSound(soundType);
+        if (sound == null) {
+            return;
+        }
+        if (sound.mixSamples != null) {
+            AudioMixer current = getMixer(); // Null once closeAll() has run
+            if (current != null) {
+                current.play(sound.mixSamples);
+            }
+            return;
+        }
+        if (sound.clips.length == 0) {
+            return;
+        }
+        Clip clip;
+        synchronized (sound) {
+            clip = null;
+            for (Clip candidate : sound.clips) {
+                if (!candidate.isRunning()) {
+                    clip = candidate;
+                    break;
+                }
+            }
+            if (clip == null) { // All busy: restart the one used longest ago
+                clip = sound.clips[sound.nextClip];
+                clip.stop();
+            }
+            sound.nextClip = (indexOf(sound.clips, clip) + 1) % sound.clips.length;
+        }
+        clip.setFramePosition(0);
+        clip.start();
+    }
+
+    /**
+     * Plays "correct" when points were awarded and "wrong" when none were.
+     */
+    @Override
+    public void onLearningEvent(LearningEvent event) {
+        if (event.getType() == LearningEvent.Type.POINTS_AWARDED) {
+            playSound(event.getPoints() > 0 ? "correct" : "wrong");
+        }
+    }
+
+    /**
+     * Decodes the given sounds ahead of time so the first playback has no delay.
+     */
+    public static void preload(String... soundTypes) {
+        for (String soundType : soundTypes) {
+            getSound(soundType);
+        }
+    }
+
+    /**
+     * @return The shared mixer, or null if sounds are played through clips.
+     */
+    public static synchronized AudioMixer getMixer() {
+        return mixer;
+    }
+
+    /**
+     * Stops the mixer and closes all open clips. Sounds are decoded again if
+     * played afterwards.
+     */
+    public static synchronized void closeAll() {
+        if (mixer != null) {
+            mixer.stop();
+            mixer = null;
+        }
+        mixerStarted = false;
+        for (LoadedSound sound : loadedSounds.values()) {
+            if (sound == null) {
+                continue;
+            }
+            for (Clip clip : sound.clips) {
+                clip.close();
+            }
+        }
+        loadedSounds.clear();
+    }
+
+    private static synchronized LoadedSound getSound(String soundType) {
+        if (loadedSounds.containsKey(soundType)) {
+            return loadedSounds.get(soundType); // May be null if it failed to load before
+        }
+        if (!mixerStarted) {
+            mixerStarted = true;
+            AudioMixer candidate = new AudioMixer();
+            mixer = candidate.start() ? candidate : null;
+        }
+        LoadedSound sound = loadSound(soundType);
+        loadedSounds.put(soundType, sound);
+        return sound;
+    }
+
+    private static LoadedSound loadSound(String soundType) {
+        // 从资源文件夹加载音频
+        URL soundUrl = SoundManager.class.getResource("/sounds/" + soundType + ".wav");
+        if (soundUrl == null) {
+            soundUrl = SoundManager.class.getResource("/" + soundType + ".wav"); // resources/ root
+        }
+        if (soundUrl == null) {
+            System.out.println("找不到音效文件: " + soundType);
+            return null;
+        }
+
+        try (AudioInputStream audioIn = toPcm(AudioSystem.getAudioInputStream(soundUrl))) {
+            // 解码为 PCM 数据，只做一次
+            AudioFormat format = audioIn.getFormat();
+            byte[] pcm = readAll(audioIn);
+
+            if (mixer != null) {
+                short[] mixSamples = toMixSamples(format, pcm);
+                if (mixSamples != null) {
+                    return new LoadedSound(mixSamples, new Clip[0]);
                 }
+            }
+            return new LoadedSound(null, openClips(format, pcm));
+        } catch (Exception e) {
+            System.out.println("播放音效失败: " + e.getMessage());
+            return null;
+        }
+    }
 
-                // 获取音频流
-                AudioInputStream audioIn = AudioSystem.getAudioInputStream(soundUrl);
-                
-                // 获取音频格式
-                AudioFormat format = audioIn.getFormat();
-                
-                // 打开音频设备
-                DataLine.Info info = new DataLine.Info(Clip.class, format);
+    private static Clip[] openClips(AudioFormat format, byte[] pcm) throws LineUnavailableException {
+        Clip[] clips = new Clip[CLIPS_PER_SOUND];
+        int opened = 0;
+        DataLine.Info info = new DataLine.Info(Clip.class, format);
+        try {
+            for (; opened < CLIPS_PER_SOUND; opened++) {
                 Clip clip = (Clip) AudioSystem.getLine(info);
-                
-                // 播放设置
-                clip.open(audioIn);
-                clip.start();
-                Thread.sleep(3000);
+                clip.open(format, pcm, 0, pcm.length);
+                clips[opened] = clip;
+            }
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            if (opened == 0) {
+                throw e;
+            }
+            // Fewer lines than hoped for; play with what we have
+        }
+        Clip[] pool = new Clip[opened];
+        System.arraycopy(clips, 0, pool, 0, opened);
+        return pool;
+    }
 
-                // 自动关闭资源（播放完成后）
-                clip.addLineListener(event -> {
-                    if (event.getType() == LineEvent.Type.STOP) {
-                        clip.close();
-                        try { audioIn.close(); } catch (Exception e) {}
-                    }
-                });
+    /**
+     * Converts decoded PCM to interleaved samples in the mixer's format.
+     *
+     * @return The samples, or null if Java Sound cannot convert this format.
+     */
+    private static short[] toMixSamples(AudioFormat format, byte[] pcm) throws IOException {
+        AudioFormat target = AudioMixer.MIX_FORMAT;
+        byte[] converted = pcm;
+        if (!format.matches(target)) {
+            if (!AudioSystem.isConversionSupported(target, format)) {
+                return null;
+            }
+            AudioInputStream source = new AudioInputStream(new ByteArrayInputStream(pcm), format,
+                    pcm.length / format.getFrameSize());
+            try (AudioInputStream in = AudioSystem.getAudioInputStream(target, source)) {
+                converted = readAll(in);
+            }
+        }
+        short[] samples = new short[converted.length / 2];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (short) ((converted[2 * i] & 0xFF) | (converted[2 * i + 1] << 8)); // Little-endian
+        }
+        return samples;
+    }
+
+    /**
+     * Converts compressed or unusual encodings to signed PCM, which every mixer
+     * can open as a Clip.
+     */
+    private static AudioInputStream toPcm(AudioInputStream in) {
+        AudioFormat format = in.getFormat();
+        AudioFormat.Encoding encoding = format.getEncoding();
+        if (AudioFormat.Encoding.PCM_SIGNED.equals(encoding) || AudioFormat.Encoding.PCM_UNSIGNED.equals(encoding)) {
+            return in;
+        }
+        AudioFormat pcmFormat = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(), 16,
+                format.getChannels(), format.getChannels() * 2, format.getSampleRate(), false);
+        return AudioSystem.getAudioInputStream(pcmFormat, in);
+    }
+
+    private static byte[] readAll(AudioInputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
 
-            } catch (Exception e) {
-                System.out.println("播放音效失败: " + e.getMessage());
+    private static int indexOf(Clip[] clips, Clip clip) {
+        for (int i = 0; i < clips.length; i++) {
+            if (clips[i] == clip) {
+                return i;
             }
-        }).start();
+        }
+        return 0;
     }
 
-    public static void main(String[]args){
+    public static void main(String[]args) throws InterruptedException {
         SoundManager soundManager = new SoundManager();
         System.out.println("播放正确音效");
         soundManager.playSound("correct");
+        Thread.sleep(3000); // Playback is asynchronous; keep the JVM alive to hear it
+        AudioMixer mixer = getMixer();
+        if (mixer != null) {
+            System.out.println("Enqueue-to-line latency: " + mixer.getLastLatencyMicros() + " µs (+ "
+                    + mixer.getLineBufferMicros() + " µs line buffer)");
+        }
+        closeAll();
     }
 }
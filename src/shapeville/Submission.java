@@ -0,0 +1,22 @@
+package shapeville;
+
+/**
+ * One typed answer to grade, with the answer it should match.
+ */
+public final class Submission {
+    private final CharSequence answerText;
+    private final ScaledAnswer expected;
+
+    public Submission(CharSequence answerText, ScaledAnswer expected) {
+        this.answerText = answerText;
+        this.expected = expected;
+    }
+
+    public CharSequence getAnswerText() {
+        return answerText;
+    }
+
+    public ScaledAnswer getExpected() {
+        return expected;
+    }
+}
@@ -0,0 +1,230 @@
+package shapeville;
+
+import javax.swing.SwingUtilities;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel that runs every countdown tick and delayed transition in
+ * the app from one daemon thread.
+ *
+ * Scheduling only adds the timeout to a lock-free queue (O(1)); the tick
+ * thread files it into the wheel slot of its deadline and, when that slot
+ * comes round, hands the task to the EDT. Cancelling just marks the timeout,
+ * and because the mark is checked again on the EDT right before the task
+ * runs, a timeout cancelled on the EDT never runs, even if it was already on
+ * its way. With nothing scheduled the thread parks instead of ticking.
+ */
+public final class TimingWheel {
+    public static final long DEFAULT_TICK_MILLIS = 20;
+    public static final int DEFAULT_WHEEL_SIZE = 512; // About 10 s per turn at 20 ms
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final ConcurrentLinkedQueue<Timeout> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger scheduledCount = new AtomicInteger(); // In the queue or the wheel
+    private final long startNanos = System.nanoTime();
+    private long tick; // Tick thread only
+
+    private volatile Thread tickThread;
+    private volatile boolean running;
+
+    private static final class Holder {
+        static final TimingWheel SHARED = new TimingWheel(DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * A scheduled task; cancel it to stop it from running.
+     */
+    public static final class Timeout {
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        long remainingRounds; // Tick thread only, like the links below
+        Timeout next;
+        Timeout prev;
+
+        Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * @return true if this call stopped the task from running; false if it
+         *         had already run or been cancelled.
+         */
+        public boolean cancel() {
+            return state.compareAndSet(PENDING, CANCELLED);
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        /** @return true once the task has run (or started running). */
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        void runOnEdt() {
+            if (state.compareAndSet(PENDING, EXPIRED)) { // Unless cancelled since it left the wheel
+                task.run();
+            }
+        }
+    }
+
+    /** Doubly linked list of the timeouts in one slot. */
+    private static final class Bucket {
+        Timeout head;
+        Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        Timeout remove(Timeout timeout) {
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            } else {
+                head = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.next = null;
+            timeout.prev = null;
+            return next;
+        }
+    }
+
+    public TimingWheel(long tickMillis, int wheelSize) {
+        if (tickMillis <= 0 || wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Tick must be positive and wheel size a power of two: " + tickMillis
+                    + " ms, " + wheelSize);
+        }
+        this.tickNanos = tickMillis * 1_000_000L;
+        this.wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheelSize - 1;
+    }
+
+    /**
+     * @return The wheel shared by the whole app.
+     */
+    public static TimingWheel getShared() {
+        return Holder.SHARED;
+    }
+
+    /**
+     * Runs task on the EDT after delayMillis (rounded up to the next tick).
+     */
+    public Timeout schedule(Runnable task, long delayMillis) {
+        Timeout timeout = new Timeout(task, System.nanoTime() + Math.max(0, delayMillis) * 1_000_000L);
+        newTimeouts.offer(timeout);
+        scheduledCount.incrementAndGet();
+        Thread thread = tickThread;
+        if (thread == null) {
+            thread = start();
+        }
+        LockSupport.unpark(thread);
+        return timeout;
+    }
+
+    /**
+     * @return The number of timeouts waiting to fire (cancelled ones may be
+     *         counted until their slot comes round).
+     */
+    public int getScheduledCount() {
+        return scheduledCount.get();
+    }
+
+    /**
+     * Stops the tick thread. Timeouts that have not fired are dropped.
+     */
+    public synchronized void shutdown() {
+        running = false;
+        Thread thread = tickThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private synchronized Thread start() {
+        if (tickThread == null) {
+            Thread thread = new Thread(this::runLoop, "timing-wheel");
+            thread.setDaemon(true);
+            running = true;
+            tickThread = thread;
+            thread.start();
+        }
+        return tickThread;
+    }
+
+    private void runLoop() {
+        while (running) {
+            if (scheduledCount.get() == 0) {
+                LockSupport.park(this); // Idle: schedule() wakes us
+                tick = Math.max(tick, (System.nanoTime() - startNanos) / tickNanos); // Skip the empty ticks
+                continue;
+            }
+            long tickDeadline = startNanos + (tick + 1) * tickNanos;
+            long sleepNanos = tickDeadline - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue; // Woken early by schedule() or shutdown, or done sleeping; check again
+            }
+            transferNewTimeouts();
+            expire(wheel[(int) (tick & mask)], tickDeadline);
+            tick++;
+        }
+    }
+
+    private void transferNewTimeouts() {
+        Timeout timeout;
+        while ((timeout = newTimeouts.poll()) != null) {
+            if (timeout.state.get() != PENDING) {
+                scheduledCount.decrementAndGet();
+                continue;
+            }
+            long dueTick = Math.max(tick, (timeout.deadlineNanos - startNanos + tickNanos - 1) / tickNanos - 1);
+            timeout.remainingRounds = (dueTick - tick) / wheel.length;
+            wheel[(int) (dueTick & mask)].add(timeout);
+        }
+    }
+
+    private void expire(Bucket bucket, long tickDeadline) {
+        Timeout timeout = bucket.head;
+        while (timeout != null) {
+            if (timeout.state.get() != PENDING) {
+                timeout = bucket.remove(timeout);
+                scheduledCount.decrementAndGet();
+            } else if (timeout.remainingRounds <= 0 && timeout.deadlineNanos <= tickDeadline) {
+                Timeout due = timeout;
+                timeout = bucket.remove(timeout);
+                scheduledCount.decrementAndGet();
+                SwingUtilities.invokeLater(due::runOnEdt);
+            } else {
+                timeout.remainingRounds--;
+                timeout = timeout.next;
+            }
+        }
+    }
+}
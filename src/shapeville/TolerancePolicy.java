@@ -0,0 +1,23 @@
+package shapeville;
+
+/**
+ * Decides whether a learner's answer is close enough to the correct one. Both
+ * are given in units of the grader's last decimal place.
+ */
+public interface TolerancePolicy {
+    boolean accepts(long expectedUnits, long givenUnits);
+
+    /** Only the exact answer at the graded precision. */
+    static TolerancePolicy exact() {
+        return (expectedUnits, givenUnits) -> expectedUnits == givenUnits;
+    }
+
+    /** Answers up to units away either way, e.g. 1 for ±0.01 at two places. */
+    static TolerancePolicy withinUnits(long units) {
+        if (units < 0) {
+            throw new IllegalArgumentException("Negative tolerance: " + units);
+        }
+        return (expectedUnits, givenUnits) -> givenUnits >= expectedUnits - units
+                && givenUnits <= expectedUnits + units;
+    }
+}
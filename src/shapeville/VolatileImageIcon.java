@@ -0,0 +1,72 @@
+package shapeville;
+
+import javax.swing.ImageIcon;
+import java.awt.AlphaComposite;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * An ImageIcon that paints from a VolatileImage copy of its image, so repeated
+ * blits can stay in video memory. The BufferedImage is kept as the source of
+ * truth: it is returned by {@link #getImage()} (e.g. for scaling) and used to
+ * restore the VolatileImage whenever its contents are lost.
+ */
+public class VolatileImageIcon extends ImageIcon {
+    private final BufferedImage source;
+    private transient VolatileImage volatileImage;
+
+    public VolatileImageIcon(BufferedImage source) {
+        super(source);
+        this.source = source;
+    }
+
+    @Override
+    public synchronized void paintIcon(Component c, Graphics g, int x, int y) {
+        GraphicsConfiguration gc = c != null ? c.getGraphicsConfiguration() : null;
+        if (gc == null) {
+            g.drawImage(source, x, y, c);
+            return;
+        }
+        // Standard restore loop: contents can be lost at any time (mode switch,
+        // screen lock...), so re-render until a blit succeeds with valid contents.
+        for (int tries = 0; tries < 3; tries++) {
+            if (volatileImage == null) {
+                volatileImage = gc.createCompatibleVolatileImage(source.getWidth(), source.getHeight(),
+                        source.getTransparency());
+                if (volatileImage == null) {
+                    break;
+                }
+                render();
+            }
+            int status = volatileImage.validate(gc);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                volatileImage.flush();
+                volatileImage = null;
+                continue;
+            }
+            if (status == VolatileImage.IMAGE_RESTORED) {
+                render();
+            }
+            g.drawImage(volatileImage, x, y, c);
+            if (!volatileImage.contentsLost()) {
+                return;
+            }
+        }
+        // Acceleration unavailable or keeps failing: paint the plain image
+        g.drawImage(source, x, y, c);
+    }
+
+    private void render() {
+        Graphics2D g2d = volatileImage.createGraphics();
+        try {
+            g2d.setComposite(AlphaComposite.Src); // Replace, don't blend over old contents
+            g2d.drawImage(source, 0, 0, null);
+        } finally {
+            g2d.dispose();
+        }
+    }
+}
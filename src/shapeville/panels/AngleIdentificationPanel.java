@@ -229,12 +229,10 @@ public class AngleIdentificationPanel extends TaskPanel {
         if (isCorrect) {
         awardPointsAndShowFeedback(false); 
         questionManager.recordAngleTypeIdentified(correctTypeForDisplayedAngle); 
-        questionsDoneThisTaskSession++; 
+        markQuestionCompleted();
         // 启用输入组件
         enableTaskInputs();
-        Timer timer = new Timer(1500, e -> nextQuestion());
-        timer.setRepeats(false);
-        timer.start();
+        scheduleTransition(this::nextQuestion, 1500);
     } else {
         if (scoreManager.canAttempt()) {
             showFeedback(UIConstants.MSG_TRY_AGAIN + " ("
@@ -246,9 +244,7 @@ public class AngleIdentificationPanel extends TaskPanel {
         } else {
             showSolution(); 
             disableTaskInputs();
-            Timer timer = new Timer(3000, e -> nextQuestion());
-            timer.setRepeats(false);
-            timer.start();
+            scheduleTransition(this::nextQuestion, 3000);
         }
     }
 }
@@ -7,7 +7,6 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
-import java.text.DecimalFormat;
 import java.util.Map;
 
 public class AreaCalculationPanel extends TaskPanel {
@@ -22,8 +21,7 @@ public class AreaCalculationPanel extends TaskPanel {
 
     private String currentShapeType;
     private Map<String, Integer> currentDimensions;
-    private double correctAnswer;
-    private static final DecimalFormat df = new DecimalFormat("#.##");
+    private ScaledAnswer correctAnswer;
 
     public AreaCalculationPanel(ShapevilleApp app, ScoreManager scoreManager, QuestionManager questionManager) {
         super(app, scoreManager, questionManager, "Area Calculation - Basic Shapes");
@@ -109,6 +107,7 @@ public class AreaCalculationPanel extends TaskPanel {
         centralContentPanel.add(answerInputPanel, BorderLayout.SOUTH);
 
         gameTimer = new GameTimer(UIConstants.TIMER_DURATION_SHORT, timerLabel, this::handleTimeUp);
+        enableNudges(gameTimer);
     }
 
     @Override
@@ -135,7 +134,7 @@ public class AreaCalculationPanel extends TaskPanel {
         currentShapeDisplayLabel.setText("Current Shape: " + currentShapeType);
         scoreManager.resetQuestionAttempts();
         currentDimensions = questionManager.getRandomDimensionsForShape(currentShapeType);
-        correctAnswer = questionManager.calculateArea(currentShapeType, currentDimensions);
+        correctAnswer = questionManager.calculateAreaAnswer(currentShapeType, currentDimensions);
 
         StringBuilder qBuilder = new StringBuilder(
                 "<html><div style='text-align:center;'>Calculate area of a " + currentShapeType + " with:<br>");
@@ -164,8 +163,7 @@ public class AreaCalculationPanel extends TaskPanel {
         feedbackLabel.setText("Enter the calculated area.");
         solutionImageLabel.setIcon(null); // 清除之前的解决方案图片
         enableTaskInputs();
-        gameTimer.reset(UIConstants.TIMER_DURATION_SHORT); // 重置为3分钟
-        gameTimer.start();
+        startQuestionTimer(gameTimer, UIConstants.TIMER_DURATION_SHORT); // 重置为3分钟
         answerField.requestFocusInWindow();
     }
 
@@ -179,73 +177,48 @@ public class AreaCalculationPanel extends TaskPanel {
         // 即使时间到了，也显示解决方案并进入下一题
         showSolution(); // 显示解决方案
         disableTaskInputs();
-        Timer timer = new Timer(3500, e -> {
+        scheduleTransition(() -> {
             questionManager.recordBasicAreaShapePracticed(currentShapeType); // 标记为已练习
-            questionsDoneThisTaskSession++;
+            markQuestionCompleted();
             nextQuestion();
-        });
-        timer.setRepeats(false);
-        timer.start();
+        }, 3500);
     }
 
     @Override
     protected void checkAnswer() {
         if (currentShapeType == null)
             return;
-        gameTimer.stop(); // 提交答案时停止计时器
-
-        try {
-            String userAnswerText = answerField.getText().trim();
-            if (userAnswerText.isEmpty()) {
-                showFeedback("Please enter your calculated area.", false);
-                if (scoreManager.canAttempt())
-                    gameTimer.start(); // 如果还有尝试次数，恢复计时
-                return;
-            }
-            double userAnswer = Double.parseDouble(userAnswerText);
-            scoreManager.recordAttempt();
-
-            if (Math.abs(userAnswer - correctAnswer) < 0.01) { // 浮点数比较的容差
-                awardPointsAndShowFeedback(false); // 基本评分
-                showSolution(); // 显示带有公式和代入值的图片
-                disableTaskInputs();
-                questionManager.recordBasicAreaShapePracticed(currentShapeType);
-                questionsDoneThisTaskSession++;
-
-                Timer timer = new Timer(3500, e -> nextQuestion());
-                timer.setRepeats(false);
-                timer.start();
-            } else {
-                if (scoreManager.canAttempt()) {
-                    showFeedback(UIConstants.MSG_TRY_AGAIN + " ("
-                            + (ScoreManager.MAX_ATTEMPTS_PER_QUESTION - scoreManager.getCurrentQuestionAttempts())
-                            + " attempts left)", false);
-                    answerField.selectAll();
-                    answerField.requestFocusInWindow();
-                    gameTimer.start(); // 恢复计时
-                } else {
-                    showSolution();
-                    disableTaskInputs();
-                    questionManager.recordBasicAreaShapePracticed(currentShapeType); // 仍然计为“已练习”
-                    questionsDoneThisTaskSession++;
-
-                    Timer timer = new Timer(3500, e -> nextQuestion());
-                    timer.setRepeats(false);
-                    timer.start();
-                }
-            }
-        } catch (NumberFormatException e) {
-            showFeedback(UIConstants.MSG_INVALID_INPUT + " Enter a number for the area.", false);
-            if (scoreManager.canAttempt())
-                gameTimer.start(); // 如果还有尝试次数，恢复计时
-        }
+        gameTimer.pause(); // Resumed if the learner may try again
+        checkTypedAnswer(answerField, correctAnswer, AnswerGrader.EXACT, false, // 基本评分
+                "Please enter your calculated area.", " Enter a number for the area.", "");
+    }
+
+    @Override
+    protected void completeQuestion() {
+        showSolution(); // 显示带有公式和代入值的图片
+        disableTaskInputs();
+        questionManager.recordBasicAreaShapePracticed(currentShapeType); // 答错也计为“已练习”
+        markQuestionCompleted();
+
+        scheduleTransition(this::nextQuestion, 3500);
+    }
+
+    @Override
+    protected void resumeQuestionTimer() {
+        gameTimer.resume();
+    }
+
+    @Override
+    public void onLeaveTask() {
+        super.onLeaveTask();
+        gameTimer.stop();
     }
 
     @Override
     protected void showSolution() {
         if (currentShapeType == null)
             return;
-        feedbackLabel.setText(UIConstants.MSG_CORRECT_ANSWER_IS + df.format(correctAnswer));
+        feedbackLabel.setText(UIConstants.MSG_CORRECT_ANSWER_IS + correctAnswer);
 
         // 加载并显示对应形状的图片
         String imageName = "";
@@ -267,15 +240,13 @@ public class AreaCalculationPanel extends TaskPanel {
             ImageIcon icon = ImageLoader.loadImage(imageName);
             // 必要时缩放图片
             if (icon != null && icon.getIconWidth() > 0) {
-                Image img = icon.getImage();
                 int newWidth = solutionImageLabel.getWidth() > 0? solutionImageLabel.getWidth() - 10 : 380;
                 int newHeight = solutionImageLabel.getHeight() > 0? solutionImageLabel.getHeight() - 10 : 140;
                 // 如果标签尺寸尚未确定，保持原始图片显示
                 if (newWidth <= 0 || newHeight <= 0) {
                     solutionImageLabel.setIcon(icon);
                 } else {
-                    Image scaledImg = img.getScaledInstance(newWidth, newHeight, Image.SCALE_SMOOTH);
-                    solutionImageLabel.setIcon(new ImageIcon(scaledImg));
+                    solutionImageLabel.setIcon(ImageLoader.loadAndScaleImage(imageName, newWidth, newHeight));
                 }
             } else {
                 solutionImageLabel.setText("Solution image not found: " + imageName);
@@ -7,7 +7,6 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
-import java.text.DecimalFormat;
 
 public class CircleCalculationPanel extends TaskPanel {
     private JComboBox<String> calculationTypeSelector; // "Area", "Circumference"
@@ -20,8 +19,7 @@ public class CircleCalculationPanel extends TaskPanel {
     private JLabel solutionImageLabel; // To show image from Fig 5/6 style
     private String currentCalcTypeKey; // e.g., "RadiusArea" from QuestionManager
     private int currentDimensionValue;
-    private double correctAnswer;
-    private static final DecimalFormat df = new DecimalFormat("#.##");
+    private ScaledAnswer correctAnswer;
 
     public CircleCalculationPanel(ShapevilleApp app, ScoreManager scoreManager, QuestionManager questionManager) {
         super(app, scoreManager, questionManager, "Circle Area & Circumference");
@@ -113,6 +111,7 @@ public class CircleCalculationPanel extends TaskPanel {
         centralContentPanel.add(answerInputPanel, BorderLayout.SOUTH);
 
         gameTimer = new GameTimer(UIConstants.TIMER_DURATION_SHORT, timerLabel, this::handleTimeUp);
+        enableNudges(gameTimer);
     }
 
     @Override
@@ -140,7 +139,8 @@ public class CircleCalculationPanel extends TaskPanel {
 
         scoreManager.resetQuestionAttempts();
         currentDimensionValue = questionManager.getRandomCircleDimension(); // 1 - 20
-        correctAnswer = questionManager.calculateCircleProperty(currentCalcTypeKey, currentDimensionValue);
+        correctAnswer = questionManager.calculateCircleAnswer(currentCalcTypeKey, currentDimensionValue,
+                PiConvention.EXACT);
 
         questionLabel.setText("<html><div style='text-align:center;'>Calculate the <b>" + selectedCalcType.toLowerCase() +
                 "</b> of a circle given its <b>" + selectedGivenValue.toLowerCase() +
@@ -150,8 +150,7 @@ public class CircleCalculationPanel extends TaskPanel {
         feedbackLabel.setText("Enter your calculated value.");
         solutionImageLabel.setIcon(null); // Clear previous solution
         enableTaskInputs();
-        gameTimer.reset(UIConstants.TIMER_DURATION_SHORT);
-        gameTimer.start();
+        startQuestionTimer(gameTimer, UIConstants.TIMER_DURATION_SHORT);
         answerField.requestFocusInWindow();
     }
 
@@ -163,74 +162,48 @@ public class CircleCalculationPanel extends TaskPanel {
         scoreManager.recordAttempt();
         showSolution();
         disableTaskInputs();
-        Timer timer = new Timer(3500, e -> {
+        scheduleTransition(() -> {
             questionManager.recordCircleCalcTaskPracticed(currentCalcTypeKey);
-            questionsDoneThisTaskSession++;
+            markQuestionCompleted();
             updateQuestion();
-        });
-        timer.setRepeats(false);
-        timer.start();
+        }, 3500);
     }
 
     @Override
     protected void checkAnswer() {
         if (currentCalcTypeKey == null)
             return;
-        gameTimer.stop();
+        gameTimer.pause(); // Resumed if the learner may try again
+        checkTypedAnswer(answerField, correctAnswer, AnswerGrader.WITHIN_ONE_UNIT, false, // Basic scoring
+                "Please enter your calculated value.", " Enter a number.", "");
+    }
 
-        try {
-            String userAnswerText = answerField.getText().trim();
-            if (userAnswerText.isEmpty()) {
-                showFeedback("Please enter your calculated value.", false);
-                if (scoreManager.canAttempt())
-                    gameTimer.start();
-                return;
-            }
-            double userAnswer = Double.parseDouble(userAnswerText);
-            scoreManager.recordAttempt();
-
-            // Use a small epsilon for comparing doubles, especially with PI
-            if (Math.abs(userAnswer - correctAnswer) < 0.015) {
-                awardPointsAndShowFeedback(false); // Basic scoring
-                showSolution();
-                disableTaskInputs();
-                questionManager.recordCircleCalcTaskPracticed(currentCalcTypeKey);
-                questionsDoneThisTaskSession++;
-
-                Timer timer = new Timer(3500, e -> updateQuestion());
-                timer.setRepeats(false);
-                timer.start();
-            } else {
-                if (scoreManager.canAttempt()) {
-                    showFeedback(UIConstants.MSG_TRY_AGAIN + " (" +
-                            (ScoreManager.MAX_ATTEMPTS_PER_QUESTION - scoreManager.getCurrentQuestionAttempts()) +
-                            " attempts left)", false);
-                    answerField.selectAll();
-                    answerField.requestFocusInWindow();
-                    gameTimer.start();
-                } else {
-                    showSolution();
-                    disableTaskInputs();
-                    questionManager.recordCircleCalcTaskPracticed(currentCalcTypeKey);
-                    questionsDoneThisTaskSession++;
-
-                    Timer timer = new Timer(3500, e -> updateQuestion());
-                    timer.setRepeats(false);
-                    timer.start();
-                }
-            }
-        } catch (NumberFormatException e) {
-            showFeedback(UIConstants.MSG_INVALID_INPUT + " Enter a number.", false);
-            if (scoreManager.canAttempt())
-                gameTimer.start();
-        }
+    @Override
+    protected void completeQuestion() {
+        showSolution();
+        disableTaskInputs();
+        questionManager.recordCircleCalcTaskPracticed(currentCalcTypeKey);
+        markQuestionCompleted();
+
+        scheduleTransition(this::updateQuestion, 3500);
+    }
+
+    @Override
+    protected void resumeQuestionTimer() {
+        gameTimer.resume();
+    }
+
+    @Override
+    public void onLeaveTask() {
+        super.onLeaveTask();
+        gameTimer.stop();
     }
 
     @Override
     protected void showSolution() {
         if (currentCalcTypeKey == null)
             return;
-        feedbackLabel.setText(UIConstants.MSG_CORRECT_ANSWER_IS + df.format(correctAnswer));
+        feedbackLabel.setText(UIConstants.MSG_CORRECT_ANSWER_IS + correctAnswer);
 
         String imageName = "";
         if (currentCalcTypeKey.startsWith("Radius")) {
@@ -247,14 +220,12 @@ public class CircleCalculationPanel extends TaskPanel {
         if (!imageName.isEmpty()) {
             ImageIcon icon = ImageLoader.loadImage(imageName);
             if (icon != null && icon.getIconWidth() > 0) {
-                Image img = icon.getImage();
                 int newWidth = solutionImageLabel.getWidth() > 0? solutionImageLabel.getWidth() - 10 : 380;
                 int newHeight = solutionImageLabel.getHeight() > 0? solutionImageLabel.getHeight() - 10 : 180;
                 if (newWidth <= 0 || newHeight <= 0) {
                     solutionImageLabel.setIcon(icon);
                 } else {
-                    Image scaledImg = img.getScaledInstance(newWidth, newHeight, Image.SCALE_SMOOTH);
-                    solutionImageLabel.setIcon(new ImageIcon(scaledImg));
+                    solutionImageLabel.setIcon(ImageLoader.loadAndScaleImage(imageName, newWidth, newHeight));
                 }
             } else {
                 solutionImageLabel.setText("Solution image not found: " + imageName);
@@ -6,8 +6,6 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
-import java.text.DecimalFormat;
-import java.util.Map;
 
 public class CompoundShapePanel extends TaskPanel {
     private JComboBox<String> shapeSelectorComboBox; // To select one of the 9 shapes (driven by QM)
@@ -18,9 +16,8 @@ public class CompoundShapePanel extends TaskPanel {
     private GameTimer gameTimer;
     private JLabel timerLabel;
 
-    private Map<String, Object> currentCompoundShapeData;
-    private double correctAnswer;
-    private static final DecimalFormat df = new DecimalFormat("#.##");
+    private CompoundShapeData currentCompoundShapeData;
+    private ScaledAnswer correctAnswer;
 
     public CompoundShapePanel(ShapevilleApp app, ScoreManager scoreManager, QuestionManager questionManager) {
         super(app, scoreManager, questionManager, "Compound Shapes Area (Bonus)");
@@ -95,6 +92,7 @@ public class CompoundShapePanel extends TaskPanel {
         centralContentPanel.add(answerInputPanel, BorderLayout.SOUTH);
 
         gameTimer = new GameTimer(UIConstants.TIMER_DURATION_LONG, timerLabel, this::handleTimeUp); // 5 minutes
+        enableNudges(gameTimer);
     }
 
     @Override
@@ -132,31 +130,29 @@ public class CompoundShapePanel extends TaskPanel {
         }
 
         // Update JComboBox to reflect the current shape from QuestionManager
-        shapeSelectorComboBox.setSelectedItem(currentCompoundShapeData.getOrDefault("name", "Unknown Shape"));
+        shapeSelectorComboBox.setSelectedItem(currentCompoundShapeData.getName());
 
         scoreManager.resetQuestionAttempts();
-        ImageIcon icon = ImageLoader.loadImage((String) currentCompoundShapeData.get("image"));
+        ImageIcon icon = ImageLoader.loadImage(currentCompoundShapeData.getImageName());
         if (icon != null && icon.getIconWidth() > 0) {
             // Scale image if needed, similar to ShapeIdentificationPanel
-            Image img = icon.getImage();
             int prefWidth = shapeImageLabel.getPreferredSize().width > 0 ? shapeImageLabel.getPreferredSize().width - 10
                     : 380;
-            Image scaledImg = img.getScaledInstance(prefWidth, -1, Image.SCALE_SMOOTH); // Scale to width, maintain
-                                                                                        // aspect ratio
-            shapeImageLabel.setIcon(new ImageIcon(scaledImg));
+            // Scale to width, maintain aspect ratio
+            shapeImageLabel.setIcon(
+                    ImageLoader.loadAndScaleToWidth(currentCompoundShapeData.getImageName(), prefWidth));
         } else {
             shapeImageLabel.setIcon(ImageLoader.getPlaceholderIcon());
-            shapeImageLabel.setText("Image not found: " + currentCompoundShapeData.get("image"));
+            shapeImageLabel.setText("Image not found: " + currentCompoundShapeData.getImageName());
         }
-        correctAnswer = (double) currentCompoundShapeData.getOrDefault("area", 0.0);
+        correctAnswer = currentCompoundShapeData.getAnswer();
 
         answerField.setText("");
         feedbackLabel.setText("Calculate the total area of the displayed shape.");
         solutionBreakdownArea.setText("Solution breakdown will appear after your attempt.");
         solutionBreakdownArea.setCaretPosition(0); // Scroll to top
         enableTaskInputs();
-        gameTimer.reset(UIConstants.TIMER_DURATION_LONG); // 5 minutes
-        gameTimer.start();
+        startQuestionTimer(gameTimer, UIConstants.TIMER_DURATION_LONG); // 5 minutes
         answerField.requestFocusInWindow();
     }
 
@@ -168,79 +164,53 @@ public class CompoundShapePanel extends TaskPanel {
         scoreManager.recordAttempt();
         showSolution();
         disableTaskInputs();
-        Timer timer = new Timer(4000, e -> { // Longer delay
-            questionManager
-                    .recordCompoundShapePracticed((String) currentCompoundShapeData.getOrDefault("id", "unknown"));
-            questionsDoneThisTaskSession++;
+        scheduleTransition(() -> { // Longer delay
+            questionManager.recordCompoundShapePracticed(currentCompoundShapeData.getId());
+            markQuestionCompleted();
             nextQuestion();
-        });
-        timer.setRepeats(false);
-        timer.start();
+        }, 4000);
     }
 
     @Override
     protected void checkAnswer() {
         if (currentCompoundShapeData == null)
             return;
-        gameTimer.stop();
+        gameTimer.pause(); // Resumed if the learner may try again
+        checkTypedAnswer(answerField, correctAnswer, AnswerGrader.WITHIN_ONE_UNIT, true, // Advanced scoring for bonus
+                "Please enter your calculated area.", " Enter a number for the area.", "");
+    }
 
-        try {
-            String userAnswerText = answerField.getText().trim();
-            if (userAnswerText.isEmpty()) {
-                showFeedback("Please enter your calculated area.", false);
-                if (scoreManager.canAttempt())
-                    gameTimer.start();
-                return;
-            }
-            double userAnswer = Double.parseDouble(userAnswerText);
-            scoreManager.recordAttempt();
-
-            if (Math.abs(userAnswer - correctAnswer) < 0.015) { // Epsilon for float comparison
-                awardPointsAndShowFeedback(true); // Advanced scoring for bonus
-                showSolution();
-                disableTaskInputs();
-                questionManager
-                        .recordCompoundShapePracticed((String) currentCompoundShapeData.getOrDefault("id", "unknown"));
-                questionsDoneThisTaskSession++;
-
-                Timer timer = new Timer(4000, e -> nextQuestion());
-                timer.setRepeats(false);
-                timer.start();
-            } else {
-                if (scoreManager.canAttempt()) {
-                    showFeedback(UIConstants.MSG_TRY_AGAIN + " ("
-                            + (ScoreManager.MAX_ATTEMPTS_PER_QUESTION - scoreManager.getCurrentQuestionAttempts())
-                            + " attempts left)", false);
-                    answerField.selectAll();
-                    answerField.requestFocusInWindow();
-                    gameTimer.start();
-                } else {
-                    showSolution();
-                    disableTaskInputs();
-                    questionManager.recordCompoundShapePracticed(
-                            (String) currentCompoundShapeData.getOrDefault("id", "unknown"));
-                    questionsDoneThisTaskSession++;
-
-                    Timer timer = new Timer(4000, e -> nextQuestion());
-                    timer.setRepeats(false);
-                    timer.start();
-                }
-            }
-        } catch (NumberFormatException e) {
-            showFeedback(UIConstants.MSG_INVALID_INPUT + " Enter a number for the area.", false);
-            if (scoreManager.canAttempt())
-                gameTimer.start();
-        }
+    @Override
+    protected void completeQuestion() {
+        showSolution();
+        disableTaskInputs();
+        questionManager.recordCompoundShapePracticed(currentCompoundShapeData.getId());
+        markQuestionCompleted();
+
+        scheduleTransition(this::nextQuestion, 4000);
+    }
+
+    @Override
+    protected void resumeQuestionTimer() {
+        gameTimer.resume();
+    }
+
+    @Override
+    public void onLeaveTask() {
+        super.onLeaveTask();
+        gameTimer.stop();
     }
 
     @Override
     protected void showSolution() {
         if (currentCompoundShapeData == null)
             return;
-        feedbackLabel.setText(UIConstants.MSG_CORRECT_ANSWER_IS + df.format(correctAnswer));
+        feedbackLabel.setText(UIConstants.MSG_CORRECT_ANSWER_IS + correctAnswer);
 
-        String solutionText = (String) currentCompoundShapeData.getOrDefault(
-                "solution_breakdown", "Detailed solution steps are not available for this shape.");
+        String solutionText = currentCompoundShapeData.getSolutionBreakdown();
+        if (solutionText == null) {
+            solutionText = "Detailed solution steps are not available for this shape.";
+        }
         solutionBreakdownArea.setText(solutionText);
         solutionBreakdownArea.setCaretPosition(0); // Scroll to top
     }
@@ -1,5 +1,6 @@
 package shapeville.panels;
 
+import shapeville.LearningEvent;
 import shapeville.ShapevilleApp;
 import shapeville.ScoreManager;
 import shapeville.UIConstants;
@@ -128,6 +129,13 @@ public class HomeScreenPanel extends JPanel {
 
         add(bottomPanel, BorderLayout.SOUTH);
         updateProgress(); // Initial call
+
+        // Refresh the score whenever points are awarded; events arrive off the EDT
+        scoreManager.getEventBus().subscribe(event -> {
+            if (event.getType() == LearningEvent.Type.POINTS_AWARDED) {
+                SwingUtilities.invokeLater(this::updateProgress);
+            }
+        });
     }
 
     private void addSectionTitle(JPanel panel, GridBagConstraints gbc, String title, int gridY) {
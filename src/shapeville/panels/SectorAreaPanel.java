@@ -8,8 +8,6 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
-import java.text.DecimalFormat;
-import java.util.Map;
 
 public class SectorAreaPanel extends TaskPanel {
     private JComboBox<String> sectorSelectorComboBox;
@@ -20,9 +18,8 @@ public class SectorAreaPanel extends TaskPanel {
     private GameTimer gameTimer;
     private JLabel timerLabel;
 
-    private Map<String, Object> currentSectorData;
-    private double correctAnswer;
-    private static final DecimalFormat df = new DecimalFormat("#.##"); // For rounding to two decimal places
+    private SectorAreaData currentSectorData;
+    private ScaledAnswer correctAnswer;
 
     public SectorAreaPanel(ShapevilleApp app, ScoreManager scoreManager, QuestionManager questionManager) {
         super(app, scoreManager, questionManager, "Sector of a Circle Area (Bonus)");
@@ -99,6 +96,7 @@ public class SectorAreaPanel extends TaskPanel {
         centralContentPanel.add(answerInputPanel, BorderLayout.SOUTH);
 
         gameTimer = new GameTimer(UIConstants.TIMER_DURATION_LONG, timerLabel, this::handleTimeUp); // 5 minutes
+        enableNudges(gameTimer);
     }
 
     @Override
@@ -134,32 +132,30 @@ public class SectorAreaPanel extends TaskPanel {
             return;
         }
 
-        sectorSelectorComboBox.setSelectedItem(currentSectorData.getOrDefault("name", "Unknown Sector"));
+        sectorSelectorComboBox.setSelectedItem(currentSectorData.getName());
 
         scoreManager.resetQuestionAttempts();
-        ImageIcon icon = ImageLoader.loadImage((String) currentSectorData.get("image"));
+        ImageIcon icon = ImageLoader.loadImage(currentSectorData.getImageName());
         if (icon != null && icon.getIconWidth() > 0) {
-            Image img = icon.getImage();
             int prefWidth = sectorImageLabel.getPreferredSize().width > 0
                     ? sectorImageLabel.getPreferredSize().width - 10
                     : 330;
-            Image scaledImg = img.getScaledInstance(prefWidth, -1, Image.SCALE_SMOOTH);
-            sectorImageLabel.setIcon(new ImageIcon(scaledImg));
+            sectorImageLabel.setIcon(
+                    ImageLoader.loadAndScaleToWidth(currentSectorData.getImageName(), prefWidth));
         } else {
             sectorImageLabel.setIcon(ImageLoader.getPlaceholderIcon());
-            sectorImageLabel.setText("Image not found: " + currentSectorData.get("image"));
+            sectorImageLabel.setText("Image not found: " + currentSectorData.getImageName());
         }
         // Area is pre-calculated and stored rounded in QM, using PI=3.14 as per Fig 13
         // example.
-        correctAnswer = (double) currentSectorData.getOrDefault("area", 0.0);
+        correctAnswer = currentSectorData.getAnswer();
 
         answerField.setText("");
         feedbackLabel.setText("Calculate the area of the shaded sector. Round to two decimal places (use π = 3.14).");
         solutionFormulaArea.setText("Solution formula will appear after your attempt.");
         solutionFormulaArea.setCaretPosition(0);
         enableTaskInputs();
-        gameTimer.reset(UIConstants.TIMER_DURATION_LONG); // 5 minutes
-        gameTimer.start();
+        startQuestionTimer(gameTimer, UIConstants.TIMER_DURATION_LONG); // 5 minutes
         answerField.requestFocusInWindow();
     }
 
@@ -171,75 +167,44 @@ public class SectorAreaPanel extends TaskPanel {
         scoreManager.recordAttempt();
         showSolution();
         disableTaskInputs();
-        Timer timer = new Timer(4000, e -> {
-            questionManager.recordSectorAreaPracticed((String) currentSectorData.getOrDefault("id", "unknown"));
-            questionsDoneThisTaskSession++;
+        scheduleTransition(() -> {
+            questionManager.recordSectorAreaPracticed(currentSectorData.getId());
+            markQuestionCompleted();
             nextQuestion();
-        });
-        timer.setRepeats(false);
-        timer.start();
+        }, 4000);
     }
 
     @Override
     protected void checkAnswer() {
         if (currentSectorData == null)
             return;
-        gameTimer.stop();
+        gameTimer.pause(); // Resumed if the learner may try again
+        // The answer is rounded to two decimal places, as per spec for this task, and
+        // compared with the (already rounded) correct answer
+        checkTypedAnswer(answerField, correctAnswer, AnswerGrader.EXACT, true, // Advanced scoring
+                "Please enter your calculated area.", " Enter a number for the area.",
+                ". Remember to round to 2 decimal places and use π = 3.14.");
+    }
 
-        try {
-            String userAnswerText = answerField.getText().trim();
-            if (userAnswerText.isEmpty()) {
-                showFeedback("Please enter your calculated area.", false);
-                if (scoreManager.canAttempt())
-                    gameTimer.start();
-                return;
-            }
-            double userAnswerRaw = Double.parseDouble(userAnswerText);
-            // Round user's answer to two decimal places for comparison, as per spec for
-            // this task.
-            double userAnswerRounded = Double.parseDouble(df.format(userAnswerRaw));
-
-            scoreManager.recordAttempt();
-
-            // Compare the rounded user answer with the (already rounded) correct answer
-            // from QM.
-            if (Math.abs(userAnswerRounded - correctAnswer) < 0.001) { // Epsilon for small diff after rounding
-                awardPointsAndShowFeedback(true); // Advanced scoring
-                showSolution();
-                disableTaskInputs();
-                questionManager.recordSectorAreaPracticed((String) currentSectorData.getOrDefault("id", "unknown"));
-                questionsDoneThisTaskSession++;
-
-                Timer timer = new Timer(4000, e -> nextQuestion());
-                timer.setRepeats(false);
-                timer.start();
-            } else {
-                if (scoreManager.canAttempt()) {
-                    showFeedback(
-                            UIConstants.MSG_TRY_AGAIN + " ("
-                                    + (ScoreManager.MAX_ATTEMPTS_PER_QUESTION
-                                            - scoreManager.getCurrentQuestionAttempts())
-                                    + " attempts left). Remember to round to 2 decimal places and use π = 3.14.",
-                            false);
-                    answerField.selectAll();
-                    answerField.requestFocusInWindow();
-                    gameTimer.start();
-                } else {
-                    showSolution();
-                    disableTaskInputs();
-                    questionManager.recordSectorAreaPracticed((String) currentSectorData.getOrDefault("id", "unknown"));
-                    questionsDoneThisTaskSession++;
-
-                    Timer timer = new Timer(4000, e -> nextQuestion());
-                    timer.setRepeats(false);
-                    timer.start();
-                }
-            }
-        } catch (NumberFormatException e) {
-            showFeedback(UIConstants.MSG_INVALID_INPUT + " Enter a number for the area.", false);
-            if (scoreManager.canAttempt())
-                gameTimer.start();
-        }
+    @Override
+    protected void completeQuestion() {
+        showSolution();
+        disableTaskInputs();
+        questionManager.recordSectorAreaPracticed(currentSectorData.getId());
+        markQuestionCompleted();
+
+        scheduleTransition(this::nextQuestion, 4000);
+    }
+
+    @Override
+    protected void resumeQuestionTimer() {
+        gameTimer.resume();
+    }
+
+    @Override
+    public void onLeaveTask() {
+        super.onLeaveTask();
+        gameTimer.stop();
     }
 
     @Override
@@ -248,10 +213,12 @@ public class SectorAreaPanel extends TaskPanel {
             return;
         // Correct answer is already rounded in QM as per spec (PI=3.14, round to 2
         // decimal places)
-        feedbackLabel.setText(UIConstants.MSG_CORRECT_ANSWER_IS + df.format(correctAnswer));
+        feedbackLabel.setText(UIConstants.MSG_CORRECT_ANSWER_IS + correctAnswer);
 
-        String solutionText = (String) currentSectorData.getOrDefault(
-                "solution_formula", "Detailed formula and steps are not available.");
+        String solutionText = currentSectorData.getSolutionFormula();
+        if (solutionText == null) {
+            solutionText = "Detailed formula and steps are not available.";
+        }
         solutionFormulaArea.setText(solutionText);
         solutionFormulaArea.setCaretPosition(0);
     }
@@ -6,6 +6,9 @@ import shapeville.QuestionManager;
 import shapeville.UIConstants;
 import shapeville.ImageLoader;
 import shapeville.ShapeData;
+import shapeville.ShapeIcon;
+import shapeville.ShapeNameMatcher;
+import shapeville.ShapeRenderer;
 
 import javax.swing.*;
 import java.awt.*;
@@ -88,23 +91,20 @@ public class ShapeIdentificationPanel extends TaskPanel {
         currentShapeData = questionManager.getCurrentShape(is3DMode);
 
         if (currentShapeData != null) {
-            ImageIcon icon = ImageLoader.loadImage(currentShapeData.getImageName());
-            if (icon != null && icon.getIconWidth() > 0) { // Check if image loaded successfully
+            // 2D shapes are drawn as vectors at the label's size; 3D shapes use images
+            ShapeIcon vectorIcon = is3DMode ? null
+                    : ShapeRenderer.createIcon(currentShapeData.getName(),
+                            shapeImageLabel.getPreferredSize().width - 20,
+                            shapeImageLabel.getPreferredSize().height - 20);
+            ImageIcon icon = vectorIcon != null ? null : ImageLoader.loadImage(currentShapeData.getImageName());
+            if (vectorIcon != null) {
+                shapeImageLabel.setIcon(vectorIcon);
+            } else if (icon != null && icon.getIconWidth() > 0) { // Check if image loaded successfully
                 // Scale image to fit if it's too large for the label, maintaining aspect ratio
                 int maxWidth = shapeImageLabel.getPreferredSize().width - 20; // Account for border/padding
                 int maxHeight = shapeImageLabel.getPreferredSize().height - 20;
-                if (icon.getIconWidth() > maxWidth || icon.getIconHeight() > maxHeight) {
-                    Image img = icon.getImage();
-                    double widthRatio = (double) maxWidth / icon.getIconWidth();
-                    double heightRatio = (double) maxHeight / icon.getIconHeight();
-                    double ratio = Math.min(widthRatio, heightRatio);
-                    int newWidth = (int) (icon.getIconWidth() * ratio);
-                    int newHeight = (int) (icon.getIconHeight() * ratio);
-                    shapeImageLabel
-                            .setIcon(new ImageIcon(img.getScaledInstance(newWidth, newHeight, Image.SCALE_SMOOTH)));
-                } else {
-                    shapeImageLabel.setIcon(icon);
-                }
+                shapeImageLabel.setIcon(
+                        ImageLoader.loadAndFitImage(currentShapeData.getImageName(), maxWidth, maxHeight));
             } else {
                 shapeImageLabel.setIcon(ImageLoader.getPlaceholderIcon()); // Show placeholder if image fails
                 shapeImageLabel.setText("Image not found: " + currentShapeData.getImageName());
@@ -134,27 +134,19 @@ public class ShapeIdentificationPanel extends TaskPanel {
         }
 
         scoreManager.recordAttempt();
-        // Allow for common synonyms, e.g., "cuboid" vs "rectangular prism"
-        // This logic can be expanded in QuestionManager or by adding a synonyms list to
-        // ShapeData
-        boolean isCorrect = userAnswer.equals(currentShapeData.getName());
-        if (!isCorrect && currentShapeData.getName().equals("cuboid") && userAnswer.equals("rectangular prism"))
-            isCorrect = true;
-        if (!isCorrect && currentShapeData.getName().equals("square-based pyramid")
-                && userAnswer.equals("square pyramid"))
-            isCorrect = true;
-        // Add more synonyms as needed
-
-        if (isCorrect) {
-            awardPointsAndShowFeedback(is3DMode); // 3D shapes might have advanced scoring
+        // Synonyms (e.g. "rectangular prism" for "cuboid") and small typos count
+        ShapeNameMatcher.Result match = questionManager.matchShapeName(userAnswer, currentShapeData);
+
+        if (match != ShapeNameMatcher.Result.WRONG) {
+            awardPointsAndShowFeedback(is3DMode, match == ShapeNameMatcher.Result.CLOSE_MATCH
+                    ? " (It is spelled \"" + currentShapeData.getName() + "\".)"
+                    : ""); // 3D shapes might have advanced scoring
             questionManager.recordShapeIdentified(currentShapeData.getId(), is3DMode); // Record this shape as
                                                                                        // identified
-            questionsDoneThisTaskSession++; // Increment session counter
+            markQuestionCompleted();
             disableTaskInputs(); // Disable input while showing feedback/ transitioning
 
-            Timer timer = new Timer(1500, e -> nextQuestion()); // Delay before next question
-            timer.setRepeats(false);
-            timer.start();
+            scheduleTransition(this::nextQuestion, 1500); // Delay before next question
         } else {
             if (scoreManager.canAttempt()) {
                 showFeedback(UIConstants.MSG_TRY_AGAIN + " ("
@@ -166,12 +158,10 @@ public class ShapeIdentificationPanel extends TaskPanel {
                 showSolution();
                 questionManager.recordShapeIdentified(currentShapeData.getId(), is3DMode); // Still "counts" as seen
                                                                                            // even if not guessed
-                questionsDoneThisTaskSession++;
+                markQuestionCompleted();
                 disableTaskInputs();
 
-                Timer timer = new Timer(3000, e -> nextQuestion()); // Longer delay to see solution
-                timer.setRepeats(false);
-                timer.start();
+                scheduleTransition(this::nextQuestion, 3000); // Longer delay to see solution
             }
         }
     }
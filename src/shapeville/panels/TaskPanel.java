@@ -1,8 +1,15 @@
 package shapeville.panels;
 
+import shapeville.AnswerGrader;
+import shapeville.GameTimer;
+import shapeville.GradeResult;
+import shapeville.IdleDetector;
+import shapeville.NudgePolicy;
 import shapeville.ShapevilleApp;
+import shapeville.ScaledAnswer;
 import shapeville.ScoreManager;
 import shapeville.QuestionManager;
+import shapeville.TimingWheel;
 import shapeville.UIConstants;
 
 import javax.swing.*;
@@ -10,6 +17,8 @@ import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.List;
 
 public abstract class TaskPanel extends JPanel {
     protected ShapevilleApp app;
@@ -22,6 +31,18 @@ public abstract class TaskPanel extends JPanel {
     protected JLabel taskTitleLabel;      // Label to display the title of the current task
    
     protected int questionsDoneThisTaskSession = 0; // Track questions done in this session
+
+    // Delayed transitions (e.g. to the next question) not yet run; cancelled on leaving the task
+    private final List<TimingWheel.Timeout> pendingTransitions = new ArrayList<>();
+
+    // Check-in prompt shown above the feedback when a timed question sits idle
+    protected static final NudgePolicy NUDGE_POLICY = NudgePolicy.fromSystemProperties();
+    private static final long NUDGE_REPLY_MILLIS = 4000; // How long the reply stays before the banner hides
+    private JPanel nudgeBanner;
+    private JLabel nudgeLabel;
+    private JButton nudgeYesButton;
+    private JButton nudgeNoButton;
+    private TimingWheel.Timeout nudgeHide;
    
     // These constants define how many unique items need to be completed for each task type.
     // They guide the logic in QuestionManager's "all...PracticedForTask" methods.
@@ -82,9 +103,85 @@ public abstract class TaskPanel extends JPanel {
         homeButtonContainer.setOpaque(false);
         homeButtonContainer.add(homeButton);
         bottomControlsPanel.add(homeButtonContainer, BorderLayout.EAST);
+
+        bottomControlsPanel.add(createNudgeBanner(), BorderLayout.NORTH);
         
         add(bottomControlsPanel, BorderLayout.SOUTH);
     }
+
+    private JPanel createNudgeBanner() {
+        nudgeBanner = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 5));
+        nudgeBanner.setBackground(UIConstants.ACCENT_COLOR_1.brighter().brighter());
+        nudgeBanner.setBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY, 1));
+        nudgeLabel = new JLabel();
+        nudgeLabel.setFont(UIConstants.FEEDBACK_FONT);
+        nudgeLabel.setForeground(UIConstants.TEXT_COLOR_DARK);
+        nudgeYesButton = createStyledButton("Yes");
+        nudgeYesButton.addActionListener(e -> answerNudge("Good job, I'm sure you'll be able to work it out soon!"));
+        nudgeNoButton = createStyledButton("No");
+        nudgeNoButton.addActionListener(e -> answerNudge("It doesn't matter. Let's keep working hard to solve this problem!"));
+        nudgeBanner.add(nudgeLabel);
+        nudgeBanner.add(nudgeYesButton);
+        nudgeBanner.add(nudgeNoButton);
+        nudgeBanner.setVisible(false);
+        return nudgeBanner;
+    }
+
+    /**
+     * Lets the countdown ask the learner, in this panel, whether they are still
+     * working when they go quiet. Nothing blocks; the timer keeps running.
+     */
+    protected void enableNudges(GameTimer timer) {
+        IdleDetector.getShared(); // Start watching input now, not on the first tick
+        timer.setNudgeHandler(NUDGE_POLICY, this::showNudge);
+    }
+
+    /**
+     * Restarts the countdown for a new question. Any nudge from the previous
+     * question is cleared and idle time counts from now, so the learner is
+     * not nudged about a question they have only just seen.
+     */
+    protected void startQuestionTimer(GameTimer timer, int durationSeconds) {
+        hideNudge();
+        IdleDetector.getShared().markActive();
+        timer.reset(durationSeconds);
+        timer.start();
+    }
+
+    /**
+     * Shows the "still working?" banner. Safe to call while it is showing.
+     */
+    protected void showNudge() {
+        cancelNudgeHide();
+        nudgeLabel.setText("Hi, are you still working on this problem?");
+        nudgeYesButton.setVisible(true);
+        nudgeNoButton.setVisible(true);
+        nudgeBanner.setVisible(true);
+        revalidate();
+    }
+
+    private void answerNudge(String reply) {
+        nudgeLabel.setText(reply);
+        nudgeYesButton.setVisible(false);
+        nudgeNoButton.setVisible(false);
+        cancelNudgeHide();
+        nudgeHide = scheduleTransition(this::hideNudge, NUDGE_REPLY_MILLIS);
+    }
+
+    protected void hideNudge() {
+        cancelNudgeHide();
+        if (nudgeBanner.isVisible()) {
+            nudgeBanner.setVisible(false);
+            revalidate();
+        }
+    }
+
+    private void cancelNudgeHide() {
+        if (nudgeHide != null) {
+            nudgeHide.cancel();
+            nudgeHide = null;
+        }
+    }
     
     /**
      * Helper method to create styled JButtons consistently.
@@ -131,14 +228,12 @@ public abstract class TaskPanel extends JPanel {
         feedbackLabel.setOpaque(true); // Make background visible
 
         // Auto-clear feedback after a delay (optional)
-        Timer clearFeedbackTimer = new Timer(3500, e -> {
+        Runnable clearFeedback = () -> {
             feedbackLabel.setText(" ");
             feedbackLabel.setOpaque(false);
             feedbackLabel.setBackground(this.getBackground()); // Reset to panel background
-            ((Timer)e.getSource()).stop();
-        });
-        clearFeedbackTimer.setRepeats(false);
-        // clearFeedbackTimer.start(); // Uncomment this line to enable auto-clearing feedback
+        };
+        // scheduleTransition(clearFeedback, 3500); // Uncomment this line to enable auto-clearing feedback
     }
 
     /**
@@ -147,18 +242,119 @@ public abstract class TaskPanel extends JPanel {
      * @param isAdvancedScoring true if advanced scoring rules apply.
      */
     protected void awardPointsAndShowFeedback(boolean isAdvancedScoring) {
+        awardPointsAndShowFeedback(isAdvancedScoring, "");
+    }
+
+    /**
+     * As {@link #awardPointsAndShowFeedback(boolean)}, with a note appended to
+     * the feedback (e.g. a spelling correction).
+     */
+    protected void awardPointsAndShowFeedback(boolean isAdvancedScoring, String note) {
         int pointsAwarded = scoreManager.awardCalculatedPoints(isAdvancedScoring);
         if (pointsAwarded > 0) {
-            showFeedback(UIConstants.MSG_GREAT_JOB + " You earned " + pointsAwarded + " points!", true);
+            showFeedback(UIConstants.MSG_GREAT_JOB + " You earned " + pointsAwarded + " points!" + note, true);
         } else {
             // If correct but no points (e.g., after max attempts or specific game rule)
-            showFeedback(UIConstants.MSG_GREAT_JOB + " Correct!", true);
+            showFeedback(UIConstants.MSG_GREAT_JOB + " Correct!" + note, true);
         }
-        if (app.getHomeScreenPanel() != null) { // Ensure homeScreenPanel is initialized
-            app.getHomeScreenPanel().updateProgress(); // Update progress bar on the home screen
+    }
+
+    /**
+     * Grades the number typed in answerField and gives the usual feedback: a
+     * prompt if it is empty or not a number (neither uses an attempt), points if
+     * it is correct, and the attempts left if not. Calls {@link #completeQuestion()}
+     * once the question is over, otherwise {@link #resumeQuestionTimer()}.
+     *
+     * @param emptyPrompt Shown when nothing was entered.
+     * @param invalidHint Appended to {@link UIConstants#MSG_INVALID_INPUT}.
+     * @param retryHint   Appended after the attempts left ("" for none).
+     * @return How the answer was graded.
+     */
+    protected GradeResult checkTypedAnswer(JTextField answerField, ScaledAnswer expected, AnswerGrader grader,
+            boolean isAdvancedScoring, String emptyPrompt, String invalidHint, String retryHint) {
+        hideNudge(); // They are clearly still working
+        GradeResult result = grader.grade(answerField.getText(), expected);
+        switch (result) {
+            case EMPTY:
+            case INVALID:
+                showFeedback(result == GradeResult.EMPTY ? emptyPrompt : UIConstants.MSG_INVALID_INPUT + invalidHint,
+                        false);
+                if (scoreManager.canAttempt()) {
+                    resumeQuestionTimer();
+                }
+                break;
+            case CORRECT:
+                scoreManager.recordAttempt();
+                awardPointsAndShowFeedback(isAdvancedScoring);
+                completeQuestion();
+                break;
+            default:
+                scoreManager.recordAttempt();
+                if (scoreManager.canAttempt()) {
+                    showFeedback(UIConstants.MSG_TRY_AGAIN + " ("
+                            + (ScoreManager.MAX_ATTEMPTS_PER_QUESTION - scoreManager.getCurrentQuestionAttempts())
+                            + " attempts left)" + retryHint, false);
+                    answerField.selectAll();
+                    answerField.requestFocusInWindow();
+                    resumeQuestionTimer();
+                } else {
+                    completeQuestion();
+                }
+                break;
         }
+        return result;
+    }
+
+    /**
+     * Called by {@link #checkTypedAnswer} when a question is over: subclasses
+     * show the solution, record progress and move on.
+     */
+    protected void completeQuestion() {
+    }
+
+    /**
+     * Called by {@link #checkTypedAnswer} when the learner can keep answering.
+     */
+    protected void resumeQuestionTimer() {
+    }
+
+    /**
+     * Counts the current question as done for this task session and reports it
+     * to subscribers of the score events.
+     */
+    protected void markQuestionCompleted() {
+        questionsDoneThisTaskSession++;
+        scoreManager.recordQuestionCompleted();
     }
     
+    /**
+     * Runs action on the EDT after delayMillis, unless the learner leaves the
+     * task first. Use it for every delayed step such as moving to the next
+     * question, so nothing stale fires after returning home.
+     */
+    protected TimingWheel.Timeout scheduleTransition(Runnable action, long delayMillis) {
+        pendingTransitions.removeIf(t -> t.isExpired() || t.isCancelled());
+        TimingWheel.Timeout timeout = TimingWheel.getShared().schedule(action, delayMillis);
+        pendingTransitions.add(timeout);
+        return timeout;
+    }
+
+    protected void cancelPendingTransitions() {
+        for (TimingWheel.Timeout timeout : pendingTransitions) {
+            timeout.cancel();
+        }
+        pendingTransitions.clear();
+    }
+
+    /**
+     * Called when another panel replaces this one (e.g. Return Home). Cancels
+     * pending transitions; subclasses with a countdown also stop it.
+     */
+    public void onLeaveTask() {
+        cancelPendingTransitions();
+        hideNudge();
+    }
+
     /**
      * Abstract method to be called when this task panel becomes visible.
      * Subclasses must implement this to reset their state and load the first question/item.